@@ -0,0 +1,129 @@
+package org.fr.farmranding.common.converter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 브랜딩 프로젝트 목록 로딩 시 키워드 컬럼 변환 비용 비교 (프로젝트당 키워드 컬럼 3개)
+ * legacy: 로딩마다 TypeReference를 새로 만들어 파싱하고, 가변 값이라 스냅샷용으로 직렬화 + 파싱을 한 번 더 함
+ * lazy: 현재 JsonConverter (원본 문자열만 보관, 읽을 때 파싱, 변경 없으면 원본 그대로 저장)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class JsonConverterBenchmark {
+    
+    private static final ObjectMapper legacyObjectMapper = new ObjectMapper();
+    
+    // 한 페이지에 로딩되는 프로젝트 수
+    @Param({"20", "100"})
+    public int rows;
+    
+    private final JsonConverter converter = new JsonConverter();
+    private String[] columns;
+    
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        columns = new String[rows * 3];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = legacyObjectMapper.writeValueAsString(List.of(
+                    "유기농" + i, "산지직송", "친환경 재배", "당도 높은", "제철 " + (i % 12 + 1) + "월"));
+        }
+    }
+    
+    /**
+     * 목록 조회: 로딩만 하고 키워드는 읽지 않음
+     */
+    @Benchmark
+    public void legacyLoad(Blackhole blackhole) {
+        for (String column : columns) {
+            List<String> loaded = legacyToEntity(column);
+            blackhole.consume(loaded);
+            blackhole.consume(legacyToEntity(legacyToDatabase(loaded)));
+        }
+    }
+    
+    @Benchmark
+    public void lazyLoad(Blackhole blackhole) {
+        for (String column : columns) {
+            blackhole.consume(converter.convertToEntityAttribute(column));
+        }
+    }
+    
+    /**
+     * 상세 조회: 로딩 후 키워드를 모두 읽음
+     */
+    @Benchmark
+    public void legacyLoadAndRead(Blackhole blackhole) {
+        for (String column : columns) {
+            List<String> loaded = legacyToEntity(column);
+            blackhole.consume(legacyToEntity(legacyToDatabase(loaded)));
+            blackhole.consume(loaded.get(loaded.size() - 1));
+        }
+    }
+    
+    @Benchmark
+    public void lazyLoadAndRead(Blackhole blackhole) {
+        for (String column : columns) {
+            List<String> loaded = converter.convertToEntityAttribute(column);
+            blackhole.consume(loaded.get(loaded.size() - 1));
+        }
+    }
+    
+    /**
+     * 로딩한 엔티티의 다른 필드만 바꿔 flush: 변경 감지 비교 후 컬럼 값 생성
+     */
+    @Benchmark
+    public void legacyLoadAndFlush(Blackhole blackhole) {
+        for (String column : columns) {
+            List<String> loaded = legacyToEntity(column);
+            List<String> snapshot = legacyToEntity(legacyToDatabase(loaded));
+            blackhole.consume(loaded.equals(snapshot));
+            blackhole.consume(legacyToDatabase(loaded));
+        }
+    }
+    
+    @Benchmark
+    public void lazyLoadAndFlush(Blackhole blackhole) {
+        for (String column : columns) {
+            List<String> loaded = converter.convertToEntityAttribute(column);
+            blackhole.consume(loaded.equals(loaded));
+            blackhole.consume(converter.convertToDatabaseColumn(loaded));
+        }
+    }
+    
+    private static List<String> legacyToEntity(String dbData) {
+        try {
+            return legacyObjectMapper.readValue(dbData, new TypeReference<List<String>>() {});
+        } catch (JsonProcessingException e) {
+            return List.of();
+        }
+    }
+    
+    private static String legacyToDatabase(List<String> attribute) {
+        try {
+            return legacyObjectMapper.writeValueAsString(attribute);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+}
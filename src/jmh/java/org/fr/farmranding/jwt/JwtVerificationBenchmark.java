@@ -0,0 +1,86 @@
+package org.fr.farmranding.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.fr.farmranding.config.JwtProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 검증 비용 비교
+ * legacy: 호출마다 Keys.hmacShaKeyFor + Jwts.parser().build() (기존 필터는 요청당 두 번 파싱)
+ * keyRing: 기동 시 만든 JwtKeyRing 파서로 한 번 파싱
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+    
+    private static final String SECRET = "farmranding-benchmark-secret-key-0123456789abcdef";
+    
+    private JwtKeyRing keyRing;
+    private String token;
+    
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        keyRing = new JwtKeyRing(properties);
+        
+        Date now = new Date();
+        token = Jwts.builder()
+                .header().keyId(keyRing.getActiveKeyId()).and()
+                .subject("1")
+                .claim("email", "farmer@example.com")
+                .claim("name", "농부")
+                .claim("membershipType", "FREE")
+                .claim("type", "access")
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(keyRing.getActiveKey())
+                .compact();
+    }
+    
+    @Benchmark
+    public Claims legacyPerCallParser() {
+        return legacyParse(token);
+    }
+    
+    /**
+     * 기존 필터 경로: isTokenValid + getUserIdFromToken
+     */
+    @Benchmark
+    public String legacyFilterTwoPasses() {
+        legacyParse(token);
+        return legacyParse(token).getSubject();
+    }
+    
+    @Benchmark
+    public Claims keyRingParser() {
+        return keyRing.getParser().parseSignedClaims(token).getPayload();
+    }
+    
+    private static Claims legacyParse(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
@@ -17,6 +17,12 @@ public class CustomOAuth2User implements OAuth2User {
     private final String nickname;
     private final String email;
     
+    // 로그인 시 조회/생성된 사용자 스냅샷 (성공 핸들러에서 재조회하지 않도록 전달)
+    private final UserPrincipal principal;
+    
+    // 농장 정보 입력 전 신규 유저 여부
+    private final boolean newUser;
+    
     @Override
     public Map<String, Object> getAttributes() {
         return oauth2User.getAttributes();
@@ -1,5 +1,6 @@
 package org.fr.farmranding.auth;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.fr.farmranding.common.code.FarmrandingResponseCode;
@@ -9,8 +10,10 @@ import org.fr.farmranding.repository.UserRepository;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
 
 @Slf4j
 @Service
@@ -18,6 +21,13 @@ import org.springframework.stereotype.Service;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
     
     private final UserRepository userRepository;
+    private final RestTemplate oauth2UserInfoRestTemplate;
+    
+    @PostConstruct
+    void configureRestOperations() {
+        // 기본 RestTemplate 대신 풀링/타임아웃/서킷 브레이커가 적용된 클라이언트 사용
+        setRestOperations(oauth2UserInfoRestTemplate);
+    }
     
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -25,12 +35,20 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         
         try {
             return processOAuth2User(userRequest, oAuth2User);
+        } catch (BusinessException e) {
+            log.warn("OAuth2 사용자 처리 실패: {}", e.getMessage());
+            throw toAuthenticationException(e.getErrorCode(), e.getMessage());
         } catch (Exception e) {
             log.error("OAuth2 사용자 처리 중 오류 발생: {}", e.getMessage());
-            throw new BusinessException(FarmrandingResponseCode.OAUTH2_AUTHENTICATION_FAILED);
+            throw toAuthenticationException(FarmrandingResponseCode.OAUTH2_AUTHENTICATION_FAILED, e.getMessage());
         }
     }
     
+    // 실패 핸들러가 처리할 수 있도록 인증 예외로 변환
+    private OAuth2AuthenticationException toAuthenticationException(FarmrandingResponseCode code, String message) {
+        return new OAuth2AuthenticationException(new OAuth2Error(code.getCode(), message, null), message);
+    }
+    
     private OAuth2User processOAuth2User(OAuth2UserRequest userRequest, OAuth2User oAuth2User) {
         String registrationId = userRequest.getClientRegistration().getRegistrationId();
         OAuth2UserInfo userInfo = OAuth2UserInfoFactory.getOAuth2UserInfo(registrationId, oAuth2User.getAttributes());
@@ -40,6 +58,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
                     "OAuth2 제공자로부터 이메일 정보를 가져올 수 없습니다.");
         }
         
+        // 기존 사용자는 조회 한 번으로 끝남
         User user = userRepository.findByProviderId(userInfo.getId())
                 .orElseGet(() -> createUser(userInfo));
         
@@ -47,23 +66,19 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
                 oAuth2User,
                 user.getProviderId(),
                 user.getName(),
-                user.getEmail()
+                user.getEmail(),
+                UserPrincipal.from(user),
+                user.getFarmName() == null || user.getFarmName().isBlank()
         );
     }
     
     private User createUser(OAuth2UserInfo userInfo) {
-        // 이메일 중복 체크
-        if (userRepository.existsByEmail(userInfo.getEmail())) {
-            throw new BusinessException(FarmrandingResponseCode.USER_ALREADY_EXISTS, 
-                    "이미 다른 소셜 계정으로 가입된 이메일입니다.");
-        }
-        
-        User user = User.builder()
-                .email(userInfo.getEmail())
-                .name(userInfo.getName())
-                .providerId(userInfo.getId())
-                .build();
+        // 동시 최초 로그인은 upsert로 한 행만 생성되고, 이후 조회로 같은 사용자를 얻음
+        userRepository.insertIfAbsent(userInfo.getEmail(), userInfo.getName(), userInfo.getId());
         
-        return userRepository.save(user);
+        // provider_id로 찾을 수 없으면 email이 다른 소셜 계정으로 이미 사용 중인 경우
+        return userRepository.findByProviderId(userInfo.getId())
+                .orElseThrow(() -> new BusinessException(FarmrandingResponseCode.USER_ALREADY_EXISTS,
+                        "이미 다른 소셜 계정으로 가입된 이메일입니다."));
     }
 } 
\ No newline at end of file
@@ -0,0 +1,216 @@
+package org.fr.farmranding.auth;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.fr.farmranding.config.JwtProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.jackson2.SecurityJackson2Modules;
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * 쿠키 기반 OAuth2 인가 요청 저장소
+ * 인가 요청을 HttpSession 대신 AES-GCM으로 암호화/인증된 단기 쿠키에 저장합니다.
+ * 내용은 Java 직렬화가 아닌 Spring Security Jackson 모듈(허용 목록 기반 타입 정보)로 JSON 변환합니다.
+ * 서버에 세션이 남지 않으므로 어느 노드에서든 카카오 콜백을 처리할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class HttpCookieOAuth2AuthorizationRequestRepository
+        implements AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
+
+    private static final String COOKIE_NAME = "oauth2_auth_request";
+    private static final Duration COOKIE_MAX_AGE = Duration.ofMinutes(3);
+    private static final String KEY_CONTEXT = "farmranding-oauth2-authorization-request";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+
+    private final SecretKey encryptionKey;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModules(SecurityJackson2Modules.getModules(HttpCookieOAuth2AuthorizationRequestRepository.class.getClassLoader()));
+
+    public HttpCookieOAuth2AuthorizationRequestRepository(JwtProperties jwtProperties) {
+        this.encryptionKey = deriveKey(jwtProperties.getSecret());
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
+        String state = request.getParameter(OAuth2ParameterNames.STATE);
+        if (state == null) {
+            return null;
+        }
+
+        OAuth2AuthorizationRequest authorizationRequest = readCookie(request);
+        // 콜백의 state와 저장된 요청의 state가 다르면 무시 (세션 저장소와 동일한 동작)
+        if (authorizationRequest == null || !state.equals(authorizationRequest.getState())) {
+            return null;
+        }
+        return authorizationRequest;
+    }
+
+    @Override
+    public void saveAuthorizationRequest(OAuth2AuthorizationRequest authorizationRequest,
+                                         HttpServletRequest request, HttpServletResponse response) {
+        if (authorizationRequest == null) {
+            deleteCookie(request, response);
+            return;
+        }
+
+        String value = encrypt(serialize(authorizationRequest));
+        addCookie(request, response, value, COOKIE_MAX_AGE);
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest request,
+                                                                 HttpServletResponse response) {
+        OAuth2AuthorizationRequest authorizationRequest = loadAuthorizationRequest(request);
+        if (authorizationRequest != null) {
+            deleteCookie(request, response);
+        }
+        return authorizationRequest;
+    }
+
+    private OAuth2AuthorizationRequest readCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                byte[] payload = decrypt(cookie.getValue());
+                if (payload == null) {
+                    return null;
+                }
+                // 인증 태그 검증을 통과한 값만 역직렬화
+                return deserialize(payload);
+            }
+        }
+        return null;
+    }
+
+    private byte[] serialize(OAuth2AuthorizationRequest authorizationRequest) {
+        try {
+            return objectMapper.writeValueAsBytes(authorizationRequest);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("OAuth2 인가 요청 직렬화에 실패했습니다.", e);
+        }
+    }
+    
+    private OAuth2AuthorizationRequest deserialize(byte[] payload) {
+        try {
+            return objectMapper.readValue(payload, OAuth2AuthorizationRequest.class);
+        } catch (IOException | IllegalArgumentException e) {
+            log.debug("OAuth2 인가 요청 쿠키 역직렬화 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void addCookie(HttpServletRequest request, HttpServletResponse response, String value, Duration maxAge) {
+        ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, value)
+                .path("/")
+                .httpOnly(true)
+                // TLS 종료 프록시 뒤에서는 X-Forwarded-Proto로 판단 (server.forward-headers-strategy)
+                .secure(request.isSecure())
+                // 카카오에서 돌아오는 최상위 GET 리다이렉트에는 Lax 쿠키가 전송됨
+                .sameSite("Lax")
+                .maxAge(maxAge)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    private void deleteCookie(HttpServletRequest request, HttpServletResponse response) {
+        addCookie(request, response, "", Duration.ZERO);
+    }
+
+    /**
+     * 발급 시각(8바이트)을 앞에 붙여 암호화: base64url(iv || ciphertext+tag)
+     */
+    private String encrypt(byte[] payload) {
+        try {
+            byte[] iv = new byte[IV_LENGTH];
+            secureRandom.nextBytes(iv);
+
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, encryptionKey, new GCMParameterSpec(TAG_BITS, iv));
+            byte[] plain = ByteBuffer.allocate(Long.BYTES + payload.length)
+                    .putLong(System.currentTimeMillis())
+                    .put(payload)
+                    .array();
+            byte[] encrypted = cipher.doFinal(plain);
+
+            byte[] result = ByteBuffer.allocate(IV_LENGTH + encrypted.length)
+                    .put(iv)
+                    .put(encrypted)
+                    .array();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(result);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("OAuth2 인가 요청 암호화에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 복호화 실패, 위조, 만료된 쿠키는 null 반환
+     */
+    private byte[] decrypt(String value) {
+        try {
+            byte[] decoded = Base64.getUrlDecoder().decode(value);
+            if (decoded.length <= IV_LENGTH + Long.BYTES) {
+                return null;
+            }
+
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.DECRYPT_MODE, encryptionKey, new GCMParameterSpec(TAG_BITS, decoded, 0, IV_LENGTH));
+            ByteBuffer plain = ByteBuffer.wrap(cipher.doFinal(decoded, IV_LENGTH, decoded.length - IV_LENGTH));
+
+            // 쿠키 Max-Age와 별개로 서버에서도 유효 시간 확인
+            long issuedAt = plain.getLong();
+            if (System.currentTimeMillis() - issuedAt > COOKIE_MAX_AGE.toMillis()) {
+                log.debug("만료된 OAuth2 인가 요청 쿠키");
+                return null;
+            }
+
+            byte[] payload = new byte[plain.remaining()];
+            plain.get(payload);
+            return payload;
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            log.debug("OAuth2 인가 요청 쿠키 복호화 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * JWT 시크릿에서 용도가 다른 AES-256 키를 파생 (HMAC-SHA256)
+     */
+    private static SecretKey deriveKey(String secret) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] key = mac.doFinal(KEY_CONTEXT.getBytes(StandardCharsets.UTF_8));
+            return new SecretKeySpec(key, "AES");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("OAuth2 쿠키 암호화 키 생성에 실패했습니다.", e);
+        }
+    }
+}
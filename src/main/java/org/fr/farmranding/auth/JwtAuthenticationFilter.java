@@ -6,9 +6,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.fr.farmranding.entity.user.User;
 import org.fr.farmranding.jwt.JwtService;
-import org.fr.farmranding.repository.UserRepository;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -25,32 +23,23 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtService jwtService;
-    private final UserRepository userRepository;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
                                     FilterChain filterChain) throws ServletException, IOException {
         
-        try {
-            String jwt = extractJwtFromRequest(request);
-            
-            if (StringUtils.hasText(jwt) && jwtService.isTokenValid(jwt)) {
-                Long userId = jwtService.getUserIdFromToken(jwt);
-                User user = userRepository.findById(userId).orElse(null);
+        String jwt = extractJwtFromRequest(request);
+        
+        if (StringUtils.hasText(jwt)) {
+            // 검증 실패는 예외 없이 empty로 전달되며, 이 경우 anonymous로 처리
+            jwtService.resolvePrincipal(jwt).ifPresentOrElse(principal -> {
+                UsernamePasswordAuthenticationToken authentication = 
+                        new UsernamePasswordAuthenticationToken(principal, null, List.of());
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 
-                if (user != null) {
-                    UsernamePasswordAuthenticationToken authentication = 
-                            new UsernamePasswordAuthenticationToken(user, null, List.of());
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                    log.debug("JWT 인증 성공: userId={}", userId);
-                }
-            }
-        } catch (Exception e) {
-            log.debug("JWT 인증 실패: {}", e.getMessage());
-            // 인증 실패 시 SecurityContext를 비워서 anonymous 처리
-            SecurityContextHolder.clearContext();
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+                log.debug("JWT 인증 성공: userId={}", principal.getId());
+            }, SecurityContextHolder::clearContext);
         }
         
         filterChain.doFilter(request, response);
@@ -4,9 +4,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.fr.farmranding.entity.user.User;
 import org.fr.farmranding.jwt.JwtService;
-import org.fr.farmranding.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
@@ -22,7 +20,6 @@ import java.nio.charset.StandardCharsets;
 public class OAuth2AuthenticationSuccessHandler implements AuthenticationSuccessHandler {
     
     private final JwtService jwtService;
-    private final UserRepository userRepository;
     
     @Value("${farmranding.frontend-url}")
     private String frontendUrl;    
@@ -33,13 +30,11 @@ public class OAuth2AuthenticationSuccessHandler implements AuthenticationSuccess
         
         CustomOAuth2User oAuth2User = (CustomOAuth2User) authentication.getPrincipal();
         
-        // 사용자 정보 조회
-        User user = userRepository.findByProviderId(
-                oAuth2User.getProviderId()
-        ).orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+        // 사용자 정보는 CustomOAuth2UserService에서 조회한 스냅샷 사용
+        UserPrincipal user = oAuth2User.getPrincipal();
         
-        // 신규 유저 여부 확인 (농장 정보가 없으면 신규 유저로 간주)
-        boolean isNewUser = user.getFarmName() == null || user.getFarmName().trim().isEmpty();
+        // 신규 유저 여부 (농장 정보가 없으면 신규 유저로 간주)
+        boolean isNewUser = oAuth2User.isNewUser();
         
         // JWT 토큰 생성
         String accessToken = jwtService.generateAccessToken(user);
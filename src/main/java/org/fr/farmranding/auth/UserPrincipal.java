@@ -0,0 +1,30 @@
+package org.fr.farmranding.auth;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.fr.farmranding.entity.user.MembershipType;
+import org.fr.farmranding.entity.user.User;
+
+/**
+ * JWT 클레임으로 구성되는 인증 사용자 스냅샷
+ * 요청마다 User 엔티티를 조회하지 않도록 토큰에 서명된 값만 담는 불변 객체입니다.
+ * 엔티티 수정이 필요한 경우 서비스에서 id로 User를 직접 조회합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserPrincipal {
+
+    private final Long id;
+    private final String email;
+    private final String name;
+    private final MembershipType membershipType;
+
+    public static UserPrincipal from(User user) {
+        return new UserPrincipal(
+                user.getId(),
+                user.getEmail(),
+                user.getName(),
+                user.getMembershipType()
+        );
+    }
+}
@@ -0,0 +1,117 @@
+package org.fr.farmranding.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.fr.farmranding.config.KeywordIndexBackfillProperties;
+import org.fr.farmranding.entity.batch.JobCheckpoint;
+import org.fr.farmranding.entity.branding.BrandingProject;
+import org.fr.farmranding.repository.BrandingProjectRepository;
+import org.fr.farmranding.repository.JobCheckpointRepository;
+import org.fr.farmranding.service.BrandingKeywordIndex;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 키워드 역색인 도입 이전에 만든 프로젝트의 색인 생성 (한 번만 실행)
+ * 프로젝트를 ID 순 청크로 잠가 색인을 다시 만들고 체크포인트를 같은 트랜잭션에 기록하므로,
+ * 중단되어도 다음 주기에 이어서 실행되고 완료된 뒤에는 체크포인트만 확인합니다.
+ */
+@Slf4j
+@Component
+public class KeywordIndexBackfillJob {
+    
+    private static final String JOB_NAME = "keyword-index-backfill";
+    
+    // 색인 구조가 바뀌어 다시 채워야 하면 올림
+    private static final String VERSION = "v1";
+    
+    private final JobCheckpointRepository checkpointRepository;
+    private final BrandingProjectRepository brandingProjectRepository;
+    private final BrandingKeywordIndex brandingKeywordIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final KeywordIndexBackfillProperties properties;
+    
+    public KeywordIndexBackfillJob(JobCheckpointRepository checkpointRepository,
+                                   BrandingProjectRepository brandingProjectRepository,
+                                   BrandingKeywordIndex brandingKeywordIndex,
+                                   PlatformTransactionManager transactionManager,
+                                   KeywordIndexBackfillProperties properties) {
+        this.checkpointRepository = checkpointRepository;
+        this.brandingProjectRepository = brandingProjectRepository;
+        this.brandingKeywordIndex = brandingKeywordIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+    
+    @Scheduled(fixedDelayString = "${farmranding.keyword-index.backfill.interval:PT10M}", initialDelay = 30_000)
+    public void run() {
+        checkpointRepository.insertIfAbsent(JOB_NAME);
+        boolean completed = checkpointRepository.findByJobName(JOB_NAME)
+                .filter(checkpoint -> VERSION.equals(checkpoint.getPeriod()) && checkpoint.getCompleted())
+                .isPresent();
+        if (completed) {
+            return;
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        if (checkpointRepository.claim(JOB_NAME, now, now.plus(properties.getLease())) == 0) {
+            return;
+        }
+        
+        try {
+            execute();
+        } finally {
+            checkpointRepository.release(JOB_NAME);
+        }
+    }
+    
+    private void execute() {
+        JobCheckpoint checkpoint = checkpointRepository.findByJobName(JOB_NAME).orElseThrow();
+        long lastId;
+        if (VERSION.equals(checkpoint.getPeriod())) {
+            lastId = checkpoint.getLastProcessedId();
+            log.info("키워드 색인 작업 재개: lastProcessedId={}", lastId);
+        } else {
+            checkpointRepository.start(JOB_NAME, VERSION);
+            lastId = 0;
+            log.info("키워드 색인 작업 시작");
+        }
+        
+        while (true) {
+            long from = lastId;
+            Long processedTo = transactionTemplate.execute(status -> {
+                List<BrandingProject> projects = brandingProjectRepository.findChunkForUpdate(
+                        from, PageRequest.of(0, properties.getChunkSize()));
+                if (projects.isEmpty()) {
+                    return null;
+                }
+                projects.forEach(brandingKeywordIndex::reindex);
+                
+                long to = projects.get(projects.size() - 1).getId();
+                checkpointRepository.advance(JOB_NAME, to, LocalDateTime.now().plus(properties.getLease()));
+                return to;
+            });
+            if (processedTo == null) {
+                break;
+            }
+            
+            lastId = processedTo;
+            
+            try {
+                Thread.sleep(properties.getPause().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("키워드 색인 작업 중단: lastProcessedId={}", lastId);
+                return;
+            }
+        }
+        
+        checkpointRepository.complete(JOB_NAME);
+        log.info("키워드 색인 작업 완료: lastProcessedId={}", lastId);
+    }
+}
@@ -0,0 +1,202 @@
+package org.fr.farmranding.batch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.fr.farmranding.config.UsageResetProperties;
+import org.fr.farmranding.entity.batch.JobCheckpoint;
+import org.fr.farmranding.repository.JobCheckpointRepository;
+import org.fr.farmranding.service.UsageWindowQuota;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 만료 사용량 정리 작업
+ * 한도는 최근 N개 구간의 합(sliding window)으로 판정하므로 사용량은 구간이 창을 벗어나며 저절로 풀립니다.
+ * 이 작업은 창을 벗어난 usage_buckets 행만 사용자 ID 범위 단위의 벌크 DELETE로 지우며, 창 안의 사용량은 건드리지 않습니다.
+ * 삭제 기준 구간은 실행 시작 시 정해 체크포인트에 기록하므로 재개나 재시도가 그 이후 구간을 지우지 않습니다.
+ * 청크마다 체크포인트를 같은 트랜잭션에 기록하므로 중단되어도 이어서 실행되고,
+ * 청크 처리 시간에 비례해 쉬어 가며 DB와 복제본이 따라올 여유를 둡니다.
+ * users의 사용량 컬럼은 누적 통계이므로 건드리지 않습니다.
+ */
+@Slf4j
+@Component
+public class UsageResetJob {
+    
+    private static final String JOB_NAME = "expired-usage-cleanup";
+    
+    private static final String RESET_CHUNK_SQL = "DELETE FROM usage_buckets "
+            + "WHERE user_id > ? AND user_id <= ? AND bucket_index <= ?";
+    
+    private final JobCheckpointRepository checkpointRepository;
+    private final UsageWindowQuota usageWindowQuota;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UsageResetProperties properties;
+    
+    private final Counter resetRows;
+    private final Counter processedChunks;
+    private final Timer chunkTimer;
+    private final AtomicLong lastProcessedId = new AtomicLong();
+    private final AtomicLong targetMaxId = new AtomicLong();
+    private final MeterRegistry meterRegistry;
+    
+    public UsageResetJob(JobCheckpointRepository checkpointRepository,
+                         UsageWindowQuota usageWindowQuota,
+                         JdbcTemplate jdbcTemplate,
+                         PlatformTransactionManager transactionManager,
+                         UsageResetProperties properties,
+                         MeterRegistry meterRegistry) {
+        this.checkpointRepository = checkpointRepository;
+        this.usageWindowQuota = usageWindowQuota;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        
+        this.resetRows = Counter.builder("farmranding.usage.reset.rows")
+                .description("삭제된 만료 사용량 구간 행 수")
+                .register(meterRegistry);
+        this.processedChunks = Counter.builder("farmranding.usage.reset.chunks")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("farmranding.usage.reset.chunk.duration")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+    
+    @PostConstruct
+    void registerProgressGauge() {
+        Gauge.builder("farmranding.usage.reset.progress", this, UsageResetJob::progress)
+                .description("현재 실행의 처리 비율 (0~1)")
+                .register(meterRegistry);
+    }
+    
+    @Scheduled(cron = "${farmranding.usage-reset.cron:0 10 0 * * *}")
+    public void run() {
+        // 실행 단위 = 삭제 기준 구간 (이 구간 이하만 삭제)
+        String period = Long.toString(usageWindowQuota.expiredUpTo());
+        checkpointRepository.insertIfAbsent(JOB_NAME);
+        
+        if (!runExclusively(period)) {
+            log.info("만료 사용량 정리 작업이 다른 노드에서 실행 중입니다.");
+        }
+    }
+    
+    /**
+     * 마지막 실행이 끝나지 않았으면 그때 정한 삭제 기준 구간으로 체크포인트부터 이어서 실행
+     * 새 실행을 시작하지는 않습니다.
+     */
+    @Scheduled(cron = "${farmranding.usage-reset.retry-cron:0 */10 * * * *}")
+    public void resumeUnfinished() {
+        checkpointRepository.findByJobName(JOB_NAME)
+                .filter(checkpoint -> checkpoint.getPeriod() != null && !checkpoint.getCompleted())
+                .map(JobCheckpoint::getPeriod)
+                .filter(this::runExclusively)
+                .ifPresent(period -> log.info("미완료 만료 사용량 정리 재시도 종료: upToBucket={}", period));
+    }
+    
+    /**
+     * 실행권을 얻은 경우에만 실행 (다른 노드가 임대 중이면 false)
+     */
+    private boolean runExclusively(String period) {
+        LocalDateTime now = LocalDateTime.now();
+        if (checkpointRepository.claim(JOB_NAME, now, now.plus(properties.getLease())) == 0) {
+            return false;
+        }
+        
+        try {
+            execute(period);
+        } finally {
+            checkpointRepository.release(JOB_NAME);
+        }
+        return true;
+    }
+    
+    private void execute(String period) {
+        JobCheckpoint checkpoint = checkpointRepository.findByJobName(JOB_NAME).orElseThrow();
+        long lastId;
+        if (period.equals(checkpoint.getPeriod())) {
+            if (checkpoint.getCompleted()) {
+                return;
+            }
+            lastId = checkpoint.getLastProcessedId();
+            log.info("만료 사용량 정리 재개: upToBucket={}, lastProcessedId={}", period, lastId);
+        } else {
+            checkpointRepository.start(JOB_NAME, period);
+            lastId = 0;
+            log.info("만료 사용량 정리 시작: upToBucket={}", period);
+        }
+        
+        long upToBucket = Long.parseLong(period);
+        long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(user_id), 0) FROM usage_buckets", Long.class);
+        targetMaxId.set(maxId);
+        lastProcessedId.set(lastId);
+        
+        long startedAt = System.nanoTime();
+        long totalRows = 0;
+        while (lastId < maxId) {
+            long from = lastId;
+            long to = Math.min(lastId + properties.getChunkSize(), maxId);
+            
+            long chunkStartedAt = System.nanoTime();
+            Integer rows = transactionTemplate.execute(status -> {
+                int updated = jdbcTemplate.update(RESET_CHUNK_SQL, from, to, upToBucket);
+                checkpointRepository.advance(JOB_NAME, to, LocalDateTime.now().plus(properties.getLease()));
+                return updated;
+            });
+            Duration chunkElapsed = Duration.ofNanos(System.nanoTime() - chunkStartedAt);
+            
+            chunkTimer.record(chunkElapsed);
+            processedChunks.increment();
+            resetRows.increment(rows);
+            totalRows += rows;
+            lastId = to;
+            lastProcessedId.set(to);
+            
+            if (!pause(chunkElapsed)) {
+                log.warn("만료 사용량 정리 중단: lastProcessedId={}", lastId);
+                return;
+            }
+        }
+        
+        checkpointRepository.complete(JOB_NAME);
+        
+        double seconds = Math.max(1e-3, (System.nanoTime() - startedAt) / 1e9);
+        log.info("만료 사용량 정리 완료: upToBucket={}, deletedRows={}, elapsed={}s, throughput={}rows/s",
+                period, totalRows, String.format("%.1f", seconds), String.format("%.0f", totalRows / seconds));
+    }
+    
+    /**
+     * 청크 처리 시간에 비례해 대기 (느린 청크는 DB/복제 지연 신호로 보고 두 배로 쉼)
+     */
+    private boolean pause(Duration chunkElapsed) {
+        long pauseMillis = (long) (chunkElapsed.toMillis() * properties.getPauseRatio());
+        if (chunkElapsed.compareTo(properties.getSlowChunkThreshold()) > 0) {
+            pauseMillis *= 2;
+        }
+        pauseMillis = Math.max(properties.getMinPause().toMillis(), pauseMillis);
+        
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+    
+    private double progress() {
+        long max = targetMaxId.get();
+        return max == 0 ? 0 : (double) lastProcessedId.get() / max;
+    }
+}
@@ -0,0 +1,20 @@
+package org.fr.farmranding.cache;
+
+import java.time.Instant;
+
+/**
+ * 캐시 무효화 메시지
+ *
+ * @param cacheName    무효화할 캐시 이름
+ * @param key          변경된 항목 키 (null이면 캐시 전체)
+ * @param originNodeId 발행한 노드 ID
+ * @param publishedAt  발행 시각 (전파 지연 측정용, JDBC 전송으로 받은 경우 DB 시각)
+ * @param receivedAt   수신 시각 (publishedAt과 같은 시계, 발행 측에서는 null)
+ */
+public record CacheInvalidation(String cacheName, String key, String originNodeId,
+                                Instant publishedAt, Instant receivedAt) {
+    
+    public CacheInvalidation withReceivedAt(Instant receivedAt) {
+        return new CacheInvalidation(cacheName, key, originNodeId, publishedAt, receivedAt);
+    }
+}
@@ -0,0 +1,143 @@
+package org.fr.farmranding.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 로컬 캐시 무효화 버스
+ * 발행 노드는 즉시 자신의 핸들러를 실행하고, 다른 노드는 전송 계층을 통해 받은 뒤 실행합니다.
+ * 전파 지연(발행 시각 ~ 수신 시각)은 farmranding.cache.invalidation.lag 타이머로 기록하며,
+ * 두 시각은 전송 계층이 같은 시계로 채우므로 노드 간 시계 차이가 섞이지 않습니다.
+ * 전파에 실패한 무효화는 모아 두었다가 주기적으로 다시 발행합니다. (같은 캐시 키는 한 번만)
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+    
+    private final CacheInvalidationTransport transport;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, List<Consumer<CacheInvalidation>>> handlers = new ConcurrentHashMap<>();
+    private final Set<PendingInvalidation> pendingRetries = ConcurrentHashMap.newKeySet();
+    private final Counter publishFailures;
+    
+    public CacheInvalidationBus(CacheInvalidationTransport transport, MeterRegistry meterRegistry) {
+        this.transport = transport;
+        this.meterRegistry = meterRegistry;
+        this.publishFailures = Counter.builder("farmranding.cache.invalidation.publish.failures")
+                .description("다른 노드로 전달하지 못한 캐시 무효화 수")
+                .register(meterRegistry);
+        Gauge.builder("farmranding.cache.invalidation.pending.retries", pendingRetries, Set::size)
+                .description("재발행을 기다리는 캐시 무효화 수")
+                .register(meterRegistry);
+        transport.subscribe(this::onReceived);
+    }
+    
+    /**
+     * 캐시 무효화 핸들러 등록
+     */
+    public void subscribe(String cacheName, Consumer<CacheInvalidation> handler) {
+        handlers.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(handler);
+    }
+    
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 무효화 발행 (트랜잭션 밖이면 즉시 발행)
+     * 롤백된 변경으로 다른 노드의 캐시를 비우지 않도록 커밋 이후에만 전파합니다.
+     */
+    public void publishAfterCommit(String cacheName, Object key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(cacheName, key);
+            return;
+        }
+        
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(cacheName, key);
+            }
+        });
+    }
+    
+    public void publish(String cacheName, Object key) {
+        PendingInvalidation pending = new PendingInvalidation(cacheName, key == null ? null : key.toString());
+        dispatch(new CacheInvalidation(pending.cacheName(), pending.key(), nodeId, Instant.now(), null));
+        
+        if (!send(pending)) {
+            // 로컬 캐시는 이미 갱신됨. 다른 노드에는 재발행 주기에 다시 전파
+            pendingRetries.add(pending);
+        }
+    }
+    
+    /**
+     * 전파에 실패한 무효화 재발행 (다시 실패한 항목은 다음 주기까지 유지)
+     */
+    @Scheduled(fixedDelayString = "${farmranding.cache-invalidation.retry-interval-ms:5000}")
+    public void retryFailedPublishes() {
+        for (PendingInvalidation pending : pendingRetries) {
+            // 보내는 사이 같은 항목이 다시 실패해 추가되어도 잃지 않도록 먼저 꺼냄
+            if (!pendingRetries.remove(pending)) {
+                continue;
+            }
+            if (!send(pending)) {
+                pendingRetries.add(pending);
+                return;
+            }
+        }
+    }
+    
+    private boolean send(PendingInvalidation pending) {
+        try {
+            transport.publish(new CacheInvalidation(pending.cacheName(), pending.key(), nodeId, Instant.now(), null));
+            return true;
+        } catch (RuntimeException e) {
+            publishFailures.increment();
+            log.error("캐시 무효화 전파 실패: cacheName={}, key={}", pending.cacheName(), pending.key(), e);
+            return false;
+        }
+    }
+    
+    private void onReceived(CacheInvalidation invalidation) {
+        if (nodeId.equals(invalidation.originNodeId())) {
+            return;
+        }
+        
+        Duration lag = Duration.between(invalidation.publishedAt(), invalidation.receivedAt());
+        Timer.builder("farmranding.cache.invalidation.lag")
+                .description("캐시 무효화 발행부터 다른 노드 수신까지의 지연")
+                .tag("cache", invalidation.cacheName())
+                .register(meterRegistry)
+                .record(lag.isNegative() ? Duration.ZERO : lag);
+        
+        dispatch(invalidation);
+    }
+    
+    private void dispatch(CacheInvalidation invalidation) {
+        for (Consumer<CacheInvalidation> handler : handlers.getOrDefault(invalidation.cacheName(), List.of())) {
+            try {
+                handler.accept(invalidation);
+            } catch (RuntimeException e) {
+                log.error("캐시 무효화 핸들러 실패: cacheName={}, key={}",
+                        invalidation.cacheName(), invalidation.key(), e);
+            }
+        }
+    }
+    
+    private record PendingInvalidation(String cacheName, String key) {}
+}
@@ -0,0 +1,14 @@
+package org.fr.farmranding.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * 캐시 무효화 메시지를 다른 노드로 전달하는 전송 계층
+ * 전송 계층은 발행 노드 자신에게도 메시지를 돌려줄 수 있으며, 중복 처리는 CacheInvalidationBus가 걸러냅니다.
+ */
+public interface CacheInvalidationTransport {
+    
+    void publish(CacheInvalidation invalidation);
+    
+    void subscribe(Consumer<CacheInvalidation> listener);
+}
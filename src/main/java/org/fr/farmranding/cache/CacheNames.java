@@ -0,0 +1,13 @@
+package org.fr.farmranding.cache;
+
+/**
+ * 노드별 로컬 캐시 이름 (무효화 이벤트 구분용)
+ */
+public final class CacheNames {
+    
+    // 멤버십 플랜 한도 스냅샷, 공개 플랜 카탈로그
+    public static final String MEMBERSHIP_PLANS = "membership-plans";
+    
+    private CacheNames() {
+    }
+}
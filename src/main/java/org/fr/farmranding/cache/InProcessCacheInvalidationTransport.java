@@ -0,0 +1,31 @@
+package org.fr.farmranding.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안에서만 전달하는 전송 계층 (테스트, 단일 노드용)
+ * 하나의 인스턴스를 여러 CacheInvalidationBus가 공유하면 노드 간 전파를 흉내낼 수 있습니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "farmranding.cache-invalidation", name = "transport", havingValue = "in-process")
+public class InProcessCacheInvalidationTransport implements CacheInvalidationTransport {
+    
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+    
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        CacheInvalidation received = invalidation.withReceivedAt(Instant.now());
+        listeners.forEach(listener -> listener.accept(received));
+    }
+    
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+}
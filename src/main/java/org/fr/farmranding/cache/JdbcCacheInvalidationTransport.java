@@ -0,0 +1,114 @@
+package org.fr.farmranding.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.fr.farmranding.config.CacheInvalidationProperties;
+import org.fr.farmranding.entity.cache.CacheInvalidationEvent;
+import org.fr.farmranding.repository.CacheInvalidationEventRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 변경 테이블(cache_invalidation_events) 폴링 기반 전송 계층 (기본값)
+ * 별도 메시지 브로커 없이 공유 DB만으로 동작하며, 다른 노드의 반영 지연은 폴링 주기로 제한됩니다.
+ * 폴링 구간을 겹쳐 읽어 늦게 커밋된 기록을 놓치지 않고, 이미 전달한 기록은 ID로 걸러냅니다.
+ * 발행 시각과 폴링 기준 시각은 모두 DB 시계에서 가져오므로 노드 간 시계 차이가 있어도 기록을 놓치지 않으며,
+ * 수신 시각도 같은 폴링의 DB 시각으로 넘겨 전파 지연이 노드 시계와 무관하게 측정됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "farmranding.cache-invalidation", name = "transport", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcCacheInvalidationTransport implements CacheInvalidationTransport {
+    
+    private final CacheInvalidationEventRepository cacheInvalidationEventRepository;
+    private final CacheInvalidationProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+    
+    // 겹침 구간 안에서 이미 전달한 기록 (id -> publishedAt)
+    private final Map<Long, Instant> delivered = new ConcurrentHashMap<>();
+    
+    private final TransactionTemplate requiresNew;
+    
+    private volatile Instant lastPolledAt;
+    
+    public JdbcCacheInvalidationTransport(CacheInvalidationEventRepository cacheInvalidationEventRepository,
+                                          CacheInvalidationProperties properties,
+                                          JdbcTemplate jdbcTemplate,
+                                          PlatformTransactionManager transactionManager) {
+        this.cacheInvalidationEventRepository = cacheInvalidationEventRepository;
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+    
+    /**
+     * afterCommit 콜백에서 호출되므로 끝난 트랜잭션에 참여하지 않도록 새 트랜잭션으로 기록
+     */
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        requiresNew.executeWithoutResult(status -> cacheInvalidationEventRepository.insert(
+                invalidation.cacheName(), invalidation.key(), invalidation.originNodeId()));
+    }
+    
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+    
+    /**
+     * 기동 이전 기록은 읽지 않음 (로컬 캐시는 기동 시 DB에서 새로 구성됨)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        this.lastPolledAt = databaseNow();
+    }
+    
+    @Scheduled(fixedDelayString = "${farmranding.cache-invalidation.poll-interval-ms:1000}")
+    public synchronized void poll() {
+        if (lastPolledAt == null) {
+            return;
+        }
+        
+        Instant now = databaseNow();
+        Instant since = lastPolledAt.minus(properties.getPollOverlap());
+        
+        for (CacheInvalidationEvent event : cacheInvalidationEventRepository.findPublishedSince(since)) {
+            if (delivered.putIfAbsent(event.getId(), event.getPublishedAt()) != null) {
+                continue;
+            }
+            
+            CacheInvalidation invalidation = new CacheInvalidation(
+                    event.getCacheName(), event.getCacheKey(), event.getOriginNodeId(), event.getPublishedAt(), now);
+            listeners.forEach(listener -> listener.accept(invalidation));
+        }
+        
+        delivered.values().removeIf(publishedAt -> publishedAt.isBefore(since));
+        lastPolledAt = now;
+    }
+    
+    @Scheduled(cron = "${farmranding.cache-invalidation.cleanup-cron:0 40 4 * * *}")
+    public void cleanup() {
+        int deleted = cacheInvalidationEventRepository.deletePublishedBefore(databaseNow().minus(properties.getRetention()));
+        log.info("캐시 무효화 기록 정리 완료: deleted={}", deleted);
+    }
+    
+    private Instant databaseNow() {
+        return jdbcTemplate.queryForObject("SELECT NOW(6)", Timestamp.class).toInstant();
+    }
+}
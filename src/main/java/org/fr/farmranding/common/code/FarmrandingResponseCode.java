@@ -26,6 +26,8 @@ public enum FarmrandingResponseCode {
     TOKEN_EXPIRED(HttpStatus.UNAUTHORIZED, "FR102", "만료된 토큰입니다"),
     AUTHENTICATION_FAILED(HttpStatus.UNAUTHORIZED, "FR103", "인증에 실패했습니다"),
     ACCESS_DENIED(HttpStatus.FORBIDDEN, "FR104", "접근이 거부되었습니다"),
+    REFRESH_TOKEN_REUSED(HttpStatus.UNAUTHORIZED, "FR105", "이미 사용된 리프레시 토큰입니다"),
+    REFRESH_TOKEN_REVOKED(HttpStatus.UNAUTHORIZED, "FR106", "폐기된 리프레시 토큰입니다"),
     
     // OAUTH2
     OAUTH2_AUTHENTICATION_FAILED(HttpStatus.UNAUTHORIZED, "FR201", "OAuth2 인증에 실패했습니다"),
@@ -52,11 +54,17 @@ public enum FarmrandingResponseCode {
     BRANDING_PROJECT_NOT_FOUND(HttpStatus.NOT_FOUND, "FR421", "브랜딩 프로젝트를 찾을 수 없습니다"),
     BRANDING_PROJECT_ACCESS_DENIED(HttpStatus.FORBIDDEN, "FR422", "브랜딩 프로젝트에 대한 접근 권한이 없습니다"),
     BRANDING_PROJECT_CANNOT_EDIT(HttpStatus.CONFLICT, "FR423", "수정할 수 없는 브랜딩 프로젝트입니다"),
+    BRANDING_PROJECT_STORAGE_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "FR424", "저장 가능한 브랜딩 프로젝트 수를 초과했습니다"),
+    BRANDING_GENERATION_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "FR425", "브랜딩 생성 작업을 찾을 수 없습니다"),
     
     // MEMBERSHIP PLAN
     MEMBERSHIP_PLAN_NOT_FOUND(HttpStatus.NOT_FOUND, "FR431", "멤버십 플랜을 찾을 수 없습니다"),
     MEMBERSHIP_PLAN_ALREADY_EXISTS(HttpStatus.CONFLICT, "FR432", "이미 존재하는 멤버십 플랜입니다"),
     
+    // RATE LIMIT
+    RATE_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "FR601", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요"),
+    STREAM_LIMIT_EXCEEDED(HttpStatus.SERVICE_UNAVAILABLE, "FR602", "동시 생성 요청이 많습니다. 잠시 후 다시 시도해주세요"),
+    
     // SERVER ERROR
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "FR500", "서버 내부 오류가 발생했습니다"),
     EXTERNAL_API_ERROR(HttpStatus.SERVICE_UNAVAILABLE, "FR501", "외부 API 호출에 실패했습니다");
@@ -1,32 +1,45 @@
 package org.fr.farmranding.common.converter;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.annotations.Mutability;
+import org.hibernate.type.descriptor.java.Immutability;
 
 import java.util.List;
 
 /**
  * JSON 배열을 TEXT 필드로 변환하는 JPA 컨버터
  * MySQL JSON 타입 호환성 문제 해결을 위해 TEXT로 저장
+ * 로딩 시에는 파싱하지 않고 LazyJsonList로 감싸 실제로 읽을 때만 파싱합니다.
+ * 리스트는 읽기 전용 값으로 취급하므로(변경 시 엔티티의 update 메서드로 교체) 스냅샷 복사와 재직렬화가 없습니다.
  */
 @Slf4j
 @Converter
+@Mutability(Immutability.class)
 public class JsonConverter implements AttributeConverter<List<String>, String> {
     
     private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final ObjectReader listReader = objectMapper.readerForListOf(String.class);
+    private static final ObjectWriter listWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+            .constructCollectionType(List.class, String.class));
     
     @Override
     public String convertToDatabaseColumn(List<String> attribute) {
+        // 로딩한 값 그대로면 원본 문자열 재사용
+        if (attribute instanceof LazyJsonList lazy) {
+            return lazy.raw();
+        }
         if (attribute == null || attribute.isEmpty()) {
             return null;
         }
         
         try {
-            return objectMapper.writeValueAsString(attribute);
+            return listWriter.writeValueAsString(attribute);
         } catch (JsonProcessingException e) {
             log.error("JSON 직렬화 실패: {}", attribute, e);
             return null;
@@ -38,12 +51,6 @@ public class JsonConverter implements AttributeConverter<List<String>, String> {
         if (dbData == null || dbData.trim().isEmpty()) {
             return List.of();
         }
-        
-        try {
-            return objectMapper.readValue(dbData, new TypeReference<List<String>>() {});
-        } catch (JsonProcessingException e) {
-            log.error("JSON 역직렬화 실패: {}", dbData, e);
-            return List.of();
-        }
+        return new LazyJsonList(dbData, listReader);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,76 @@
+package org.fr.farmranding.common.converter;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * 처음 접근할 때 JSON을 파싱하는 읽기 전용 문자열 리스트
+ * 엔티티 로딩 시에는 원본 문자열만 보관하고, 원본이 같은 리스트끼리는 파싱 없이 동등 비교합니다.
+ */
+@Slf4j
+final class LazyJsonList extends AbstractList<String> implements RandomAccess {
+    
+    private final String raw;
+    private final ObjectReader reader;
+    
+    private volatile List<String> parsed;
+    
+    LazyJsonList(String raw, ObjectReader reader) {
+        this.raw = raw;
+        this.reader = reader;
+    }
+    
+    /**
+     * DB에서 읽은 원본 JSON (다시 저장할 때 재직렬화 없이 사용)
+     */
+    String raw() {
+        return raw;
+    }
+    
+    @Override
+    public String get(int index) {
+        return parsed().get(index);
+    }
+    
+    @Override
+    public int size() {
+        return parsed().size();
+    }
+    
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof LazyJsonList lazy && raw.equals(lazy.raw)) {
+            return true;
+        }
+        return super.equals(other);
+    }
+    
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+    
+    private List<String> parsed() {
+        List<String> result = parsed;
+        if (result == null) {
+            result = parse();
+            parsed = result;
+        }
+        return result;
+    }
+    
+    private List<String> parse() {
+        try {
+            List<String> values = reader.readValue(raw);
+            return values == null ? List.of() : List.copyOf(values);
+        } catch (IOException e) {
+            log.error("JSON 역직렬화 실패: {}", raw, e);
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package org.fr.farmranding.common.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답
+ */
+@Schema(description = "커서 기반 페이지 응답")
+public record CursorPageResponse<T>(
+        @Schema(description = "페이지 항목")
+        List<T> content,
+        
+        @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지면 null)", example = "MjAyNS0wNi0wMVQxMjowMDowMHw0Mg")
+        String nextCursor,
+        
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        boolean hasNext
+) {
+    public static <T> CursorPageResponse<T> of(List<T> content, String nextCursor) {
+        return new CursorPageResponse<>(content, nextCursor, nextCursor != null);
+    }
+}
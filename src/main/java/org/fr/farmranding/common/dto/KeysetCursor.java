@@ -0,0 +1,46 @@
+package org.fr.farmranding.common.dto;
+
+import org.fr.farmranding.common.code.FarmrandingResponseCode;
+import org.fr.farmranding.common.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (수정 시각, ID) 키셋 커서
+ * 클라이언트에는 내부 구조를 알 수 없는 base64url 문자열로만 전달합니다.
+ */
+public record KeysetCursor(LocalDateTime updatedAt, Long id) {
+    
+    private static final char SEPARATOR = '|';
+    
+    public String encode() {
+        String raw = updatedAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * 커서 해석 (null 또는 빈 값이면 첫 페이지)
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw BusinessException.expected(FarmrandingResponseCode.INVALID_INPUT);
+            }
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw BusinessException.expected(FarmrandingResponseCode.INVALID_INPUT);
+        }
+    }
+}
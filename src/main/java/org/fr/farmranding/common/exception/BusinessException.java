@@ -3,11 +3,23 @@ package org.fr.farmranding.common.exception;
 import lombok.Getter;
 import org.fr.farmranding.common.code.FarmrandingResponseCode;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 /**
  * 팜랜딩 비즈니스 예외 클래스
  */
 @Getter
 public class BusinessException extends RuntimeException {
+    
+    private static final Map<FarmrandingResponseCode, BusinessException> EXPECTED_EXCEPTIONS = new EnumMap<>(FarmrandingResponseCode.class);
+    
+    static {
+        for (FarmrandingResponseCode code : FarmrandingResponseCode.values()) {
+            EXPECTED_EXCEPTIONS.put(code, new BusinessException(code, code.getMessage(), false));
+        }
+    }
+    
     private final FarmrandingResponseCode errorCode;
 
     public BusinessException(FarmrandingResponseCode errorCode) {
@@ -24,4 +36,17 @@ public class BusinessException extends RuntimeException {
         super(message, cause);
         this.errorCode = errorCode;
     }
-} 
\ No newline at end of file
+    
+    protected BusinessException(FarmrandingResponseCode errorCode, String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.errorCode = errorCode;
+    }
+    
+    /**
+     * 예상 가능한 비즈니스 오류용 예외 (사용량 초과, 리소스 없음, 토큰 오류 등)
+     * 스택 트레이스를 만들지 않는 코드별 공유 인스턴스를 반환합니다.
+     */
+    public static BusinessException expected(FarmrandingResponseCode errorCode) {
+        return EXPECTED_EXCEPTIONS.get(errorCode);
+    }
+}
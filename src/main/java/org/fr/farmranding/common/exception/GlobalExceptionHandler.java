@@ -10,21 +10,32 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 /**
  * 팜랜딩 전역 예외 처리기
  */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    // 응답 코드별로 미리 만들어 둔 오류 응답 (본문이 고정이므로 요청마다 새로 만들지 않음)
+    private static final Map<FarmrandingResponseCode, ResponseEntity<FarmrandingResponseBody<Void>>> ERROR_RESPONSES = new EnumMap<>(FarmrandingResponseCode.class);
+    
+    static {
+        for (FarmrandingResponseCode code : FarmrandingResponseCode.values()) {
+            ERROR_RESPONSES.put(code, ResponseEntity
+                    .status(code.getHttpStatus())
+                    .body(FarmrandingResponseBody.error(code.getCode(), code.getMessage())));
+        }
+    }
+
     /**
      * 비즈니스 예외 처리
      */
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<FarmrandingResponseBody<Void>> handleBusinessException(BusinessException e) {
-        FarmrandingResponseCode errorCode = e.getErrorCode();
-        return ResponseEntity
-                .status(errorCode.getHttpStatus())
-                .body(FarmrandingResponseBody.error(errorCode.getCode(), errorCode.getMessage()));
+        return ERROR_RESPONSES.get(e.getErrorCode());
     }
 
     /**
@@ -32,10 +43,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(AuthenticationException.class)
     public ResponseEntity<FarmrandingResponseBody<Void>> handleAuthenticationException(AuthenticationException e) {
-        FarmrandingResponseCode errorCode = FarmrandingResponseCode.AUTHENTICATION_FAILED;
-        return ResponseEntity
-                .status(errorCode.getHttpStatus())
-                .body(FarmrandingResponseBody.error(errorCode.getCode(), errorCode.getMessage()));
+        return ERROR_RESPONSES.get(FarmrandingResponseCode.AUTHENTICATION_FAILED);
     }
 
     /**
@@ -43,10 +51,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<FarmrandingResponseBody<Void>> handleAccessDeniedException(AccessDeniedException e) {
-        FarmrandingResponseCode errorCode = FarmrandingResponseCode.ACCESS_DENIED;
-        return ResponseEntity
-                .status(errorCode.getHttpStatus())
-                .body(FarmrandingResponseBody.error(errorCode.getCode(), errorCode.getMessage()));
+        return ERROR_RESPONSES.get(FarmrandingResponseCode.ACCESS_DENIED);
     }
 
     /**
@@ -67,10 +72,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<FarmrandingResponseBody<Void>> handleHttpMessageNotReadable(HttpMessageNotReadableException e) {
-        FarmrandingResponseCode errorCode = FarmrandingResponseCode.BAD_JSON_FORMAT;
-        return ResponseEntity
-                .status(errorCode.getHttpStatus())
-                .body(FarmrandingResponseBody.error(errorCode.getCode(), errorCode.getMessage()));
+        return ERROR_RESPONSES.get(FarmrandingResponseCode.BAD_JSON_FORMAT);
     }
 
     /**
@@ -78,10 +80,6 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<FarmrandingResponseBody<Void>> handleGeneralException(Exception e) {
-        return ResponseEntity
-                .status(FarmrandingResponseCode.INTERNAL_SERVER_ERROR.getHttpStatus())
-                .body(FarmrandingResponseBody.error(
-                        FarmrandingResponseCode.INTERNAL_SERVER_ERROR.getCode(),
-                        FarmrandingResponseCode.INTERNAL_SERVER_ERROR.getMessage()));
+        return ERROR_RESPONSES.get(FarmrandingResponseCode.INTERNAL_SERVER_ERROR);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,115 @@
+package org.fr.farmranding.common.http;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 외부 API 호출용 지연 시간 측정 + 서킷 브레이커 인터셉터
+ * 연속 실패(I/O 오류, 5xx)가 임계치에 도달하면 일정 시간 동안 호출 없이 즉시 실패시켜
+ * 외부 장애가 톰캣 스레드를 붙잡지 않도록 합니다. 개방 시간이 지나면 한 건만 시험 호출합니다.
+ */
+@Slf4j
+public class CircuitBreakerInterceptor implements ClientHttpRequestInterceptor {
+    
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final MeterRegistry meterRegistry;
+    
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openedAt = new AtomicLong();
+    private final AtomicBoolean open = new AtomicBoolean();
+    private final AtomicBoolean trialInFlight = new AtomicBoolean();
+    
+    public CircuitBreakerInterceptor(String name, int failureThreshold, Duration openDuration,
+                                     MeterRegistry meterRegistry) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.meterRegistry = meterRegistry;
+        
+        Gauge.builder("farmranding.http.client.circuit.open", open, state -> state.get() ? 1 : 0)
+                .tag("client", name)
+                .register(meterRegistry);
+    }
+    
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        boolean trial = false;
+        if (open.get()) {
+            trial = System.nanoTime() - openedAt.get() >= openDurationNanos
+                    && trialInFlight.compareAndSet(false, true);
+            if (!trial) {
+                record(request, "REJECTED", 0);
+                throw new IOException(name + " circuit is open");
+            }
+        }
+        
+        long start = System.nanoTime();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            boolean serverError = response.getStatusCode().is5xxServerError();
+            record(request, serverError ? "SERVER_ERROR" : "SUCCESS", System.nanoTime() - start);
+            if (serverError) {
+                onFailure(trial);
+            } else {
+                onSuccess();
+            }
+            return response;
+        } catch (CancellationException e) {
+            // JDK 클라이언트의 읽기 제한 시간 처리가 요청을 취소하면 타이밍에 따라 취소 예외가 그대로 올라옴
+            record(request, "IO_ERROR", System.nanoTime() - start);
+            onFailure(trial);
+            throw new HttpTimeoutException(name + " request timed out");
+        } catch (IOException | RuntimeException e) {
+            record(request, "IO_ERROR", System.nanoTime() - start);
+            onFailure(trial);
+            throw e;
+        } finally {
+            if (trial) {
+                trialInFlight.set(false);
+            }
+        }
+    }
+    
+    private void onSuccess() {
+        consecutiveFailures.set(0);
+        if (open.compareAndSet(true, false)) {
+            log.info("{} 서킷 브레이커 닫힘", name);
+        }
+    }
+    
+    private void onFailure(boolean trial) {
+        if (trial || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedAt.set(System.nanoTime());
+            if (open.compareAndSet(false, true)) {
+                log.warn("{} 서킷 브레이커 열림: 연속 실패 {}회", name, consecutiveFailures.get());
+            }
+        }
+    }
+    
+    private void record(HttpRequest request, String outcome, long elapsedNanos) {
+        Timer.builder("farmranding.http.client.requests")
+                .tag("client", name)
+                .tag("uri", request.getURI().getPath())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.ofNanos(elapsedNanos));
+    }
+}
@@ -0,0 +1,33 @@
+package org.fr.farmranding.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 노드 간 캐시 무효화 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "farmranding.cache-invalidation")
+public class CacheInvalidationProperties {
+    
+    // 전송 계층: jdbc (변경 테이블 폴링), in-process (단일 JVM)
+    private String transport = "jdbc";
+    
+    // 변경 테이블 폴링 주기 (밀리초) - 다른 노드 반영 지연의 상한
+    private long pollIntervalMs = 1000;
+    
+    // 커밋 지연, 노드 간 시계 차이를 고려해 이전 폴링 시점보다 앞에서부터 다시 읽는 구간
+    private Duration pollOverlap = Duration.ofSeconds(5);
+    
+    // 전파에 실패한 무효화 재발행 주기 (밀리초)
+    private long retryIntervalMs = 5000;
+    
+    // 변경 기록 보관 기간
+    private Duration retention = Duration.ofDays(1);
+}
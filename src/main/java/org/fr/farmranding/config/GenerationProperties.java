@@ -0,0 +1,75 @@
+package org.fr.farmranding.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * AI 브랜딩 생성 작업 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "farmranding.generation")
+public class GenerationProperties {
+    
+    // 생성기: stub (로컬 테스트/부하 테스트용)
+    private String generator = "stub";
+    
+    // 노드당 동시에 실행하는 생성 작업 수 (모델 API 동시 호출 상한)
+    private int maxConcurrency = 32;
+    
+    // 대기 작업 확인 주기 (밀리초) - 동시 실행 상한에 걸려 바로 실행하지 못한 작업, 다른 노드의 작업
+    private long pollIntervalMs = 2000;
+    
+    // 이 시간 이상 RUNNING이면 실행 노드가 멈춘 것으로 보고 재시도
+    private Duration staleAfter = Duration.ofMinutes(5);
+    
+    // 멈춘 작업 확인 주기 (밀리초)
+    private long recoverIntervalMs = 30000;
+    
+    // 최대 실행 횟수 (초과 시 실패 처리)
+    private int maxAttempts = 3;
+    
+    private Stub stub = new Stub();
+    
+    private Stream stream = new Stream();
+    
+    private Cache cache = new Cache();
+    
+    @Getter
+    @Setter
+    public static class Cache {
+        private boolean enabled = true;
+        
+        // 메모리 계층 최대 항목 수 (LRU)
+        private int maxEntries = 10_000;
+        
+        private Duration ttl = Duration.ofDays(7);
+        
+        // MySQL 영구 계층 사용 여부 (노드 간 공유, 재시작 후 재사용)
+        private boolean persistent = true;
+        
+        private String cleanupCron = "0 50 4 * * *";
+    }
+    
+    @Getter
+    @Setter
+    public static class Stream {
+        // 노드당 동시 문구 생성 스트림 수 (초과 시 503)
+        private int maxConcurrentStreams = 200;
+        
+        // 스트림 최대 유지 시간
+        private Duration timeout = Duration.ofMinutes(2);
+    }
+    
+    @Getter
+    @Setter
+    public static class Stub {
+        // 모델 응답 지연 흉내
+        private Duration latency = Duration.ofSeconds(3);
+    }
+}
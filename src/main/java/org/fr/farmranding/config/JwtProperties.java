@@ -5,6 +5,9 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Getter
 @Setter
 @Component
@@ -13,4 +16,34 @@ public class JwtProperties {
     private String secret;
     private long accessTokenExpiration;
     private long refreshTokenExpiration;
-} 
\ No newline at end of file
+    
+    // 현재 서명에 사용하는 키 ID (토큰 헤더의 kid)
+    private String keyId = "v1";
+    
+    // 로테이션 중 검증만 허용하는 이전 키 (kid -> secret)
+    private Map<String, String> previousKeys = new LinkedHashMap<>();
+    
+    private Cache cache = new Cache();
+    
+    private Revocation revocation = new Revocation();
+    
+    @Getter
+    @Setter
+    public static class Cache {
+        // 검증 완료 토큰 캐시 사용 여부
+        private boolean enabled = true;
+        
+        // 캐시에 보관할 최대 토큰 수
+        private int maxSize = 10000;
+    }
+    
+    @Getter
+    @Setter
+    public static class Revocation {
+        // 블룸 필터 예상 원소 수 (폐기된 리프레시 토큰 수)
+        private int expectedInsertions = 100000;
+        
+        // 블룸 필터 오탐률 (오탐 시에만 DB를 확인)
+        private double falsePositiveRate = 0.01;
+    }
+}
@@ -0,0 +1,30 @@
+package org.fr.farmranding.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 기존 프로젝트 키워드 색인 작업 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "farmranding.keyword-index.backfill")
+public class KeywordIndexBackfillProperties {
+    
+    // 작업 확인 주기 (완료 전까지 실패하거나 중단되면 다음 주기에 체크포인트부터 재개)
+    private Duration interval = Duration.ofMinutes(10);
+    
+    // 한 트랜잭션에서 색인하는 프로젝트 수
+    private int chunkSize = 200;
+    
+    // 청크 사이 대기 시간
+    private Duration pause = Duration.ofMillis(100);
+    
+    // 실행권 임대 시간 (청크마다 연장)
+    private Duration lease = Duration.ofMinutes(5);
+}
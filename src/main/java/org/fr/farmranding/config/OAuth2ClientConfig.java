@@ -0,0 +1,90 @@
+package org.fr.farmranding.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.fr.farmranding.common.http.CircuitBreakerInterceptor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.converter.FormHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AccessTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AuthorizationCodeGrantRequest;
+import org.springframework.security.oauth2.client.endpoint.RestClientAuthorizationCodeTokenResponseClient;
+import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
+import org.springframework.security.oauth2.core.http.converter.OAuth2AccessTokenResponseHttpMessageConverter;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.util.List;
+
+/**
+ * 카카오 OAuth2 호출용 HTTP 클라이언트 설정
+ * 토큰 발급과 사용자 정보 조회가 keep-alive 커넥션 풀, 호출별 제한 시간,
+ * 지연 시간 히스토그램, 서킷 브레이커를 공유하는 하나의 JDK HttpClient를 사용합니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class OAuth2ClientConfig {
+    
+    private static final String CLIENT_NAME = "kakao";
+    
+    private final OAuth2ClientProperties properties;
+    
+    @Bean
+    public JdkClientHttpRequestFactory oauth2ClientRequestFactory() {
+        // JDK HttpClient는 커넥션을 풀링하고 keep-alive로 재사용
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(properties.getConnectTimeout())
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(properties.getReadTimeout());
+        return requestFactory;
+    }
+    
+    @Bean
+    public CircuitBreakerInterceptor oauth2ClientCircuitBreaker(MeterRegistry meterRegistry) {
+        OAuth2ClientProperties.CircuitBreaker circuitBreaker = properties.getCircuitBreaker();
+        return new CircuitBreakerInterceptor(CLIENT_NAME, circuitBreaker.getFailureThreshold(),
+                circuitBreaker.getOpenDuration(), meterRegistry);
+    }
+    
+    /**
+     * 사용자 정보 조회용 (CustomOAuth2UserService)
+     */
+    @Bean
+    public RestTemplate oauth2UserInfoRestTemplate(JdkClientHttpRequestFactory oauth2ClientRequestFactory,
+                                                   CircuitBreakerInterceptor oauth2ClientCircuitBreaker) {
+        RestTemplate restTemplate = new RestTemplate(oauth2ClientRequestFactory);
+        restTemplate.setErrorHandler(new OAuth2ErrorResponseErrorHandler());
+        restTemplate.setInterceptors(List.of(oauth2ClientCircuitBreaker));
+        return restTemplate;
+    }
+    
+    /**
+     * 인가 코드 -> 액세스 토큰 교환용
+     */
+    @Bean
+    public OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> oauth2AccessTokenResponseClient(
+            JdkClientHttpRequestFactory oauth2ClientRequestFactory,
+            CircuitBreakerInterceptor oauth2ClientCircuitBreaker) {
+        RestClient restClient = RestClient.builder()
+                .requestFactory(oauth2ClientRequestFactory)
+                .requestInterceptor(oauth2ClientCircuitBreaker)
+                .messageConverters(converters -> {
+                    converters.clear();
+                    converters.add(new FormHttpMessageConverter());
+                    converters.add(new OAuth2AccessTokenResponseHttpMessageConverter());
+                    converters.add(new MappingJackson2HttpMessageConverter());
+                })
+                .defaultStatusHandler(new OAuth2ErrorResponseErrorHandler())
+                .build();
+        
+        RestClientAuthorizationCodeTokenResponseClient client = new RestClientAuthorizationCodeTokenResponseClient();
+        client.setRestClient(restClient);
+        return client;
+    }
+}
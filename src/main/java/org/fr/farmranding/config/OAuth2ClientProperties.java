@@ -0,0 +1,36 @@
+package org.fr.farmranding.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 카카오 토큰/사용자 정보 호출용 HTTP 클라이언트 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "farmranding.oauth2-client")
+public class OAuth2ClientProperties {
+    
+    // TCP 연결 수립 제한 시간
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    
+    // 요청 한 건의 응답 대기 제한 시간
+    private Duration readTimeout = Duration.ofSeconds(3);
+    
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+        // 연속 실패가 이 횟수에 도달하면 회로 개방
+        private int failureThreshold = 5;
+        
+        // 개방 후 시험 요청을 허용하기까지 대기 시간
+        private Duration openDuration = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,39 @@
+package org.fr.farmranding.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 사용량 한도 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "farmranding.quota")
+public class QuotaProperties {
+    
+    // 무제한 멤버십 사용량 일괄 반영 주기 (밀리초)
+    private long flushIntervalMs = 5000;
+    
+    private Window window = new Window();
+    
+    @Getter
+    @Setter
+    public static class Window {
+        // 구간 길이
+        private Duration bucketDuration = Duration.ofDays(1);
+        
+        // 기간 창을 이루는 구간 수 (기본: 최근 30일)
+        private int bucketCount = 30;
+        
+        // 메모리 링 버퍼를 DB에서 다시 읽기 전까지 신뢰하는 시간 (다른 노드의 사용량 반영)
+        private Duration cacheTtl = Duration.ofSeconds(10);
+        
+        // 메모리에 유지할 최대 (사용자, 사용량 종류) 수
+        private int maxCachedWindows = 100000;
+    }
+}
@@ -0,0 +1,57 @@
+package org.fr.farmranding.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.fr.farmranding.entity.user.MembershipType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 요청 속도 제한 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "farmranding.rate-limit")
+public class RateLimitProperties {
+    
+    private boolean enabled = true;
+    
+    // 메모리에 유지할 최대 버킷 수 (넘으면 새 사용자는 공용 버킷으로 제한)
+    private int maxBuckets = 100000;
+    
+    // 유휴 버킷 정리 주기
+    private Duration evictionInterval = Duration.ofMinutes(1);
+    
+    // 먼저 일치하는 규칙 하나만 적용
+    private List<Rule> rules = new ArrayList<>();
+    
+    @Getter
+    @Setter
+    public static class Rule {
+        // 규칙 이름 (메트릭 태그)
+        private String name;
+        
+        // 적용할 경로 패턴 (예: /api/v1/branding/**)
+        private List<String> paths = new ArrayList<>();
+        
+        // 멤버십별 한도 (지정하지 않은 멤버십은 제한 없음)
+        private Map<MembershipType, Limit> limits = new EnumMap<>(MembershipType.class);
+    }
+    
+    @Getter
+    @Setter
+    public static class Limit {
+        // 순간적으로 허용하는 최대 요청 수
+        private int capacity;
+        
+        // 초당 채워지는 요청 수
+        private double refillPerSecond;
+    }
+}
@@ -0,0 +1,22 @@
+package org.fr.farmranding.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전문 검색 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "farmranding.search")
+public class SearchProperties {
+    
+    // 검색 엔진: mysql (FULLTEXT ngram 인덱스), in-memory (단일 JVM n-gram 색인, 테스트용)
+    private String engine = "mysql";
+    
+    // 검색 결과 최대 개수
+    private int maxResults = 50;
+}
@@ -2,20 +2,26 @@ package org.fr.farmranding.config;
 
 import lombok.RequiredArgsConstructor;
 import org.fr.farmranding.auth.CustomOAuth2UserService;
+import org.fr.farmranding.auth.HttpCookieOAuth2AuthorizationRequestRepository;
 import org.fr.farmranding.auth.OAuth2AuthenticationSuccessHandler;
 import org.fr.farmranding.auth.OAuth2AuthenticationFailureHandler;
 import org.fr.farmranding.auth.JwtAuthenticationFilter;
+import org.fr.farmranding.ratelimit.RateLimitFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AccessTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AuthorizationCodeGrantRequest;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 
 import java.util.Arrays;
@@ -29,6 +35,15 @@ public class SecurityConfig {
     private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
     private final OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final HttpCookieOAuth2AuthorizationRequestRepository cookieAuthorizationRequestRepository;
+    private final OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> oauth2AccessTokenResponseClient;
+    
+    @Value("${server.port:8080}")
+    private int serverPort;
+    
+    @Value("${management.server.port:-1}")
+    private int managementPort;
     
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -37,9 +52,14 @@ public class SecurityConfig {
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
             .authorizeHttpRequests(authorize -> authorize
+                // SSE 등 비동기 응답의 재디스패치는 최초 요청에서 이미 인가됨
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/", "/login/**", "/oauth2/**", "/swagger/**", "/swagger-ui/**", 
-                               "/v3/api-docs/**", "/actuator/**", "/api/home", "/api/auth/**", "/api/v1/branding/health").permitAll()
+                               "/v3/api-docs/**", "/livez", "/readyz", "/api/home", "/api/auth/**", "/api/v1/branding/health").permitAll()
+                // 메트릭 등 관리 엔드포인트는 관리 포트로 들어온 요청만 허용 (서비스 포트로는 노출하지 않음)
+                .requestMatchers(request -> managementPort != serverPort && request.getLocalPort() == managementPort).permitAll()
                 .anyRequest().authenticated()
             )
             .exceptionHandling(exceptions -> exceptions
@@ -55,6 +75,13 @@ public class SecurityConfig {
                 })
             )
             .oauth2Login(oauth2 -> oauth2
+                // 인가 요청을 세션 대신 암호화 쿠키에 저장 (서버 세션 없이 어느 노드에서든 콜백 처리)
+                .authorizationEndpoint(authorization -> authorization
+                    .authorizationRequestRepository(cookieAuthorizationRequestRepository)
+                )
+                .tokenEndpoint(token -> token
+                    .accessTokenResponseClient(oauth2AccessTokenResponseClient)
+                )
                 .userInfoEndpoint(userInfo -> userInfo
                     .userService(customOAuth2UserService)
                 )
@@ -0,0 +1,33 @@
+package org.fr.farmranding.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 월간 사용량 초기화 작업 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "farmranding.usage-reset")
+public class UsageResetProperties {
+    
+    // 한 번의 DELETE가 다루는 사용자 ID 범위
+    private int chunkSize = 1000;
+    
+    // 청크 사이 최소 대기 시간
+    private Duration minPause = Duration.ofMillis(50);
+    
+    // 청크 처리 시간 대비 대기 비율 (DB가 느려질수록 더 오래 쉼)
+    private double pauseRatio = 1.0;
+    
+    // 청크 처리 시간이 이 값을 넘으면 DB 부하(복제 지연)로 보고 추가로 쉼
+    private Duration slowChunkThreshold = Duration.ofMillis(500);
+    
+    // 실행권 임대 시간 (청크마다 연장, 노드 장애 시 만료 후 다른 노드가 이어서 실행)
+    private Duration lease = Duration.ofMinutes(5);
+}
@@ -6,13 +6,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.fr.farmranding.auth.CurrentUser;
+import org.fr.farmranding.auth.UserPrincipal;
 import org.fr.farmranding.common.dto.FarmrandingResponseBody;
+import org.fr.farmranding.dto.request.TokenRefreshRequest;
 import org.fr.farmranding.dto.request.UserSignupRequest;
+import org.fr.farmranding.dto.response.TokenResponse;
 import org.fr.farmranding.dto.response.UserResponse;
-import org.fr.farmranding.entity.user.User;
+import org.fr.farmranding.service.RefreshTokenService;
 import org.fr.farmranding.service.UserService;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @Tag(name = "인증", description = "OAuth2 소셜 로그인 API")
@@ -22,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
     
     private final UserService userService;
+    private final RefreshTokenService refreshTokenService;
     
     @Operation(summary = "카카오 로그인", description = "카카오 OAuth2 로그인을 시작합니다.")
     @GetMapping("/kakao")
@@ -38,10 +42,24 @@ public class AuthController {
     })
     @PostMapping("/signup")
     public ResponseEntity<FarmrandingResponseBody<UserResponse>> completeSignup(
-            @AuthenticationPrincipal User currentUser,
+            @CurrentUser UserPrincipal currentUser,
             @Valid @RequestBody UserSignupRequest request) {
         
-        UserResponse response = userService.completeSignup(currentUser, request);
+        UserResponse response = userService.completeSignup(currentUser.getId(), request);
+        return ResponseEntity.ok(FarmrandingResponseBody.success(response));
+    }
+    
+    @Operation(summary = "토큰 재발급", description = "리프레시 토큰으로 새 액세스/리프레시 토큰을 발급합니다. 사용한 리프레시 토큰은 폐기됩니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "토큰 재발급 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+        @ApiResponse(responseCode = "401", description = "유효하지 않거나 이미 사용된 토큰")
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<FarmrandingResponseBody<TokenResponse>> refresh(
+            @Valid @RequestBody TokenRefreshRequest request) {
+        
+        TokenResponse response = refreshTokenService.refresh(request.refreshToken());
         return ResponseEntity.ok(FarmrandingResponseBody.success(response));
     }
 } 
\ No newline at end of file
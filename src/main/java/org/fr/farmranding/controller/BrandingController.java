@@ -8,17 +8,28 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.fr.farmranding.auth.CurrentUser;
+import org.fr.farmranding.auth.UserPrincipal;
+import org.fr.farmranding.common.dto.CursorPageResponse;
 import org.fr.farmranding.common.dto.FarmrandingResponseBody;
+import org.fr.farmranding.dto.branding.BrandingGenerationJobResponse;
 import org.fr.farmranding.dto.branding.BrandingProjectCreateRequest;
 import org.fr.farmranding.dto.branding.BrandingProjectResponse;
+import org.fr.farmranding.dto.branding.BrandingProjectSummaryResponse;
 import org.fr.farmranding.dto.branding.BrandingProjectUpdateRequest;
-import org.fr.farmranding.entity.user.User;
+import org.fr.farmranding.dto.branding.KeywordMatch;
+import org.fr.farmranding.entity.branding.KeywordKind;
+import org.fr.farmranding.generation.BrandingCopyStreamer;
+import org.fr.farmranding.service.BrandingGenerationService;
 import org.fr.farmranding.service.BrandingService;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.net.URI;
 import java.util.List;
+import java.util.Set;
 
 @Tag(name = "브랜딩 API", description = "농산물 브랜딩 프로젝트 관리 API")
 @RestController
@@ -27,25 +38,63 @@ import java.util.List;
 public class BrandingController {
     
     private final BrandingService brandingService;
+    private final BrandingGenerationService brandingGenerationService;
+    private final BrandingCopyStreamer brandingCopyStreamer;
 
-    @Operation(summary = "브랜딩 프로젝트 생성", 
-               description = "작물정보, GAP인증여부, 키워드를 입력받아 GPT로 브랜딩을 완료하고 프로젝트를 생성합니다.")
+    @Operation(summary = "브랜딩 프로젝트 생성 요청", 
+               description = "작물정보, GAP인증여부, 키워드를 입력받아 GPT 브랜딩 생성 작업을 접수합니다. " +
+                             "Location의 작업 조회 API로 진행 상태와 생성된 프로젝트 ID를 확인합니다.")
     @ApiResponses({
-            @ApiResponse(responseCode = "201", description = "프로젝트 생성 성공"),
+            @ApiResponse(responseCode = "202", description = "생성 작업 접수"),
             @ApiResponse(responseCode = "400", description = "잘못된 요청"),
             @ApiResponse(responseCode = "401", description = "인증 실패"),
             @ApiResponse(responseCode = "403", description = "사용량 한도 초과")
     })
     @PostMapping
-    public ResponseEntity<FarmrandingResponseBody<BrandingProjectResponse>> createBrandingProject(
-            @CurrentUser User currentUser,
+    public ResponseEntity<FarmrandingResponseBody<BrandingGenerationJobResponse>> createBrandingProject(
+            @CurrentUser UserPrincipal currentUser,
             @Valid @RequestBody BrandingProjectCreateRequest request) {
         
-        BrandingProjectResponse response = brandingService.createBrandingProject(request, currentUser);
-        return ResponseEntity.status(HttpStatus.CREATED)
+        BrandingGenerationJobResponse response = brandingGenerationService.submit(request, currentUser);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/branding/jobs/" + response.jobId()))
                 .body(FarmrandingResponseBody.success(response));
     }
     
+    @Operation(summary = "브랜딩 문구 재생성 스트리밍",
+               description = "프로젝트의 홍보 문구와 브랜드 스토리를 다시 생성하며 진행 상황을 SSE로 전송합니다. " +
+                             "이벤트: status, delta(field, text), completed(프로젝트) 또는 failed. 완료 시 결과가 프로젝트에 저장됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "스트림 시작"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "403", description = "사용량 한도 초과"),
+            @ApiResponse(responseCode = "503", description = "동시 스트림 한도 초과")
+    })
+    @PostMapping(value = "/{projectId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamGeneratedCopy(
+            @CurrentUser UserPrincipal currentUser,
+            @Parameter(description = "브랜딩 프로젝트 ID", example = "1")
+            @PathVariable("projectId") Long projectId) {
+        
+        return brandingCopyStreamer.stream(projectId, currentUser);
+    }
+    
+    @Operation(summary = "브랜딩 생성 작업 조회", description = "브랜딩 생성 작업의 진행 상태를 조회합니다. 완료되면 프로젝트 ID가 포함됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "작업 조회 성공"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음")
+    })
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<FarmrandingResponseBody<BrandingGenerationJobResponse>> getGenerationJob(
+            @CurrentUser UserPrincipal currentUser,
+            @Parameter(description = "브랜딩 생성 작업 ID", example = "1")
+            @PathVariable("jobId") Long jobId) {
+        
+        BrandingGenerationJobResponse response = brandingGenerationService.getJob(jobId, currentUser);
+        return ResponseEntity.ok(FarmrandingResponseBody.success(response));
+    }
+    
     @Operation(summary = "브랜딩 프로젝트 조회", description = "특정 브랜딩 프로젝트의 상세 정보를 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "프로젝트 조회 성공"),
@@ -54,7 +103,7 @@ public class BrandingController {
     })
     @GetMapping("/{projectId}")
     public ResponseEntity<FarmrandingResponseBody<BrandingProjectResponse>> getBrandingProject(
-            @CurrentUser User currentUser,
+            @CurrentUser UserPrincipal currentUser,
             @Parameter(description = "브랜딩 프로젝트 ID", example = "1")
             @PathVariable("projectId") Long projectId) {
         
@@ -68,10 +117,71 @@ public class BrandingController {
             @ApiResponse(responseCode = "401", description = "인증 실패")
     })
     @GetMapping
-    public ResponseEntity<FarmrandingResponseBody<List<BrandingProjectResponse>>> getUserBrandingProjects(
-            @CurrentUser User currentUser) {
+    public ResponseEntity<FarmrandingResponseBody<List<BrandingProjectSummaryResponse>>> getUserBrandingProjects(
+            @CurrentUser UserPrincipal currentUser) {
+        
+        List<BrandingProjectSummaryResponse> response = brandingService.getUserBrandingProjects(currentUser);
+        return ResponseEntity.ok(FarmrandingResponseBody.success(response));
+    }
+    
+    @Operation(summary = "내 브랜딩 프로젝트 목록 페이지 조회",
+               description = "최근 수정 순으로 브랜딩 프로젝트를 조회합니다. 응답의 nextCursor를 cursor로 전달하면 다음 페이지를 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "프로젝트 목록 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+            @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @GetMapping("/page")
+    public ResponseEntity<FarmrandingResponseBody<CursorPageResponse<BrandingProjectSummaryResponse>>> getUserBrandingProjectPage(
+            @CurrentUser UserPrincipal currentUser,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        
+        CursorPageResponse<BrandingProjectSummaryResponse> response = brandingService.getUserBrandingProjectPage(currentUser, cursor, size);
+        return ResponseEntity.ok(FarmrandingResponseBody.success(response));
+    }
+    
+    @Operation(summary = "내 브랜딩 프로젝트 검색", description = "제목과 작물명에서 검색어를 포함한 프로젝트를 관련도 순으로 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "검색 성공"),
+            @ApiResponse(responseCode = "400", description = "검색어 누락"),
+            @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<FarmrandingResponseBody<List<BrandingProjectSummaryResponse>>> searchBrandingProjects(
+            @CurrentUser UserPrincipal currentUser,
+            @Parameter(description = "검색어", example = "토마토")
+            @RequestParam("query") String query,
+            @Parameter(description = "최대 결과 수", example = "20")
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        
+        List<BrandingProjectSummaryResponse> response = brandingService.searchBrandingProjects(currentUser, query, size);
+        return ResponseEntity.ok(FarmrandingResponseBody.success(response));
+    }
+    
+    @Operation(summary = "키워드로 내 브랜딩 프로젝트 검색",
+               description = "브랜딩/작물 매력/로고 이미지 키워드로 프로젝트를 검색합니다. match=ANY는 하나 이상, ALL은 모든 키워드를 포함한 프로젝트를 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "검색 성공"),
+            @ApiResponse(responseCode = "400", description = "키워드 누락 또는 10개 초과"),
+            @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @GetMapping("/search/keywords")
+    public ResponseEntity<FarmrandingResponseBody<List<BrandingProjectSummaryResponse>>> searchBrandingProjectsByKeywords(
+            @CurrentUser UserPrincipal currentUser,
+            @Parameter(description = "검색 키워드 (최대 10개)", example = "유기농")
+            @RequestParam("keywords") List<String> keywords,
+            @Parameter(description = "검색 조건 (ANY, ALL)", example = "ANY")
+            @RequestParam(value = "match", defaultValue = "ANY") KeywordMatch match,
+            @Parameter(description = "키워드 종류 (생략 시 전체)")
+            @RequestParam(value = "kinds", required = false) Set<KeywordKind> kinds,
+            @Parameter(description = "최대 결과 수 (최대 100)", example = "20")
+            @RequestParam(value = "size", defaultValue = "20") int size) {
         
-        List<BrandingProjectResponse> response = brandingService.getUserBrandingProjects(currentUser);
+        List<BrandingProjectSummaryResponse> response =
+                brandingService.searchBrandingProjectsByKeywords(currentUser, keywords, match, kinds, size);
         return ResponseEntity.ok(FarmrandingResponseBody.success(response));
     }
     
@@ -84,7 +194,7 @@ public class BrandingController {
     })
     @PutMapping("/{projectId}")
     public ResponseEntity<FarmrandingResponseBody<BrandingProjectResponse>> updateBrandingProject(
-            @CurrentUser User currentUser,
+            @CurrentUser UserPrincipal currentUser,
             @Parameter(description = "브랜딩 프로젝트 ID", example = "1")
             @PathVariable("projectId") Long projectId,
             @Valid @RequestBody BrandingProjectUpdateRequest request) {
@@ -101,7 +211,7 @@ public class BrandingController {
     })
     @DeleteMapping("/{projectId}")
     public ResponseEntity<FarmrandingResponseBody<Void>> deleteBrandingProject(
-            @CurrentUser User currentUser,
+            @CurrentUser UserPrincipal currentUser,
             @Parameter(description = "브랜딩 프로젝트 ID", example = "1")
             @PathVariable("projectId") Long projectId) {
         
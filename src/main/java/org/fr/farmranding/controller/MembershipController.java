@@ -12,11 +12,16 @@ import org.fr.farmranding.dto.membership.MembershipPlanCreateRequest;
 import org.fr.farmranding.dto.membership.MembershipPlanResponse;
 import org.fr.farmranding.dto.membership.MembershipPlanUpdateRequest;
 import org.fr.farmranding.entity.user.MembershipType;
+import org.fr.farmranding.service.MembershipPlanCatalog;
 import org.fr.farmranding.service.MembershipService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.List;
 
 @Tag(name = "멤버십 API", description = "멤버십 플랜 관리 API")
@@ -25,7 +30,12 @@ import java.util.List;
 @RequestMapping("/api/v1/membership")
 public class MembershipController {
     
+    private static final CacheControl CATALOG_CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(1))
+            .cachePublic()
+            .mustRevalidate();
+    
     private final MembershipService membershipService;
+    private final MembershipPlanCatalog membershipPlanCatalog;
     
     @Operation(summary = "활성 멤버십 플랜 목록 조회", description = "사용자에게 보여줄 활성화된 멤버십 플랜들을 정렬 순서대로 조회합니다.")
     @ApiResponses({
@@ -33,10 +43,11 @@ public class MembershipController {
             @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
     @GetMapping("/plans")
-    public ResponseEntity<FarmrandingResponseBody<List<MembershipPlanResponse>>> getActiveMembershipPlans() {
+    public ResponseEntity<byte[]> getActiveMembershipPlans(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         
-        List<MembershipPlanResponse> response = membershipService.getActiveMembershipPlans();
-        return ResponseEntity.ok(FarmrandingResponseBody.success(response));
+        return catalogResponse(membershipPlanCatalog.getActivePlans(), ifNoneMatch, acceptEncoding);
     }
     
     @Operation(summary = "멤버십 타입으로 플랜 조회", description = "특정 멤버십 타입의 플랜 정보를 조회합니다.")
@@ -46,11 +57,18 @@ public class MembershipController {
             @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
     @GetMapping("/plans/type/{membershipType}")
-    public ResponseEntity<FarmrandingResponseBody<MembershipPlanResponse>> getMembershipPlanByType(
-            @PathVariable @Parameter(description = "멤버십 타입") MembershipType membershipType) {
+    public ResponseEntity<?> getMembershipPlanByType(
+            @PathVariable @Parameter(description = "멤버십 타입") MembershipType membershipType,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         
-        MembershipPlanResponse response = membershipService.getMembershipPlanByType(membershipType);
-        return ResponseEntity.ok(FarmrandingResponseBody.success(response));
+        MembershipPlanCatalog.Entry entry = membershipPlanCatalog.getPlanByType(membershipType);
+        if (entry == null) {
+            // 카탈로그에 없으면 기존 조회 경로로 응답 (없으면 404, 카탈로그 갱신 전이면 DB 결과)
+            return ResponseEntity.ok(FarmrandingResponseBody.success(
+                    membershipService.getMembershipPlanByType(membershipType)));
+        }
+        return catalogResponse(entry, ifNoneMatch, acceptEncoding);
     }
     
     @Operation(summary = "인기 플랜 조회", description = "현재 인기 플랜으로 설정된 멤버십 플랜을 조회합니다.")
@@ -60,10 +78,15 @@ public class MembershipController {
             @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
     @GetMapping("/plans/popular")
-    public ResponseEntity<FarmrandingResponseBody<MembershipPlanResponse>> getPopularPlan() {
+    public ResponseEntity<?> getPopularPlan(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         
-        MembershipPlanResponse response = membershipService.getPopularPlan();
-        return ResponseEntity.ok(FarmrandingResponseBody.success(response));
+        MembershipPlanCatalog.Entry entry = membershipPlanCatalog.getPopularPlan();
+        if (entry == null) {
+            return ResponseEntity.ok(FarmrandingResponseBody.success(membershipService.getPopularPlan()));
+        }
+        return catalogResponse(entry, ifNoneMatch, acceptEncoding);
     }
     
     // === 관리자용 API ===
@@ -174,4 +197,33 @@ public class MembershipController {
         MembershipPlanResponse response = membershipService.setPopularPlan(planId);
         return ResponseEntity.ok(FarmrandingResponseBody.success(response));
     }
-} 
\ No newline at end of file
+    
+    /**
+     * 미리 직렬화된 카탈로그 응답
+     * ETag가 일치하면 본문 없이 304, gzip을 허용하면 압축된 바이트를 그대로 전송합니다.
+     */
+    private ResponseEntity<byte[]> catalogResponse(MembershipPlanCatalog.Entry entry,
+                                                   String ifNoneMatch, String acceptEncoding) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        String etag = gzip ? entry.gzipEtag() : entry.etag();
+        
+        if (ifNoneMatch != null && (ifNoneMatch.contains(entry.etag()) || ifNoneMatch.contains(entry.gzipEtag())
+                || ifNoneMatch.trim().equals("*"))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CATALOG_CACHE_CONTROL)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CATALOG_CACHE_CONTROL)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(entry.gzip());
+        }
+        return builder.body(entry.identity());
+    }
+}
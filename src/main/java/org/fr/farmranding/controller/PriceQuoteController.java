@@ -8,10 +8,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.fr.farmranding.auth.CurrentUser;
+import org.fr.farmranding.auth.UserPrincipal;
 import org.fr.farmranding.common.dto.FarmrandingResponseBody;
 import org.fr.farmranding.dto.pricequote.PriceQuoteCreateRequest;
 import org.fr.farmranding.dto.pricequote.PriceQuoteResponse;
-import org.fr.farmranding.entity.user.User;
+import org.fr.farmranding.dto.pricequote.PriceQuoteSummaryResponse;
 import org.fr.farmranding.service.PriceQuoteService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -36,7 +37,7 @@ public class PriceQuoteController {
     })
     @PostMapping
     public ResponseEntity<FarmrandingResponseBody<PriceQuoteResponse>> createPriceQuote(
-            @CurrentUser User currentUser,
+            @CurrentUser UserPrincipal currentUser,
             @Valid @RequestBody PriceQuoteCreateRequest request) {
         
         PriceQuoteResponse response = priceQuoteService.createPriceQuote(request, currentUser);
@@ -50,10 +51,10 @@ public class PriceQuoteController {
         @ApiResponse(responseCode = "401", description = "인증 실패")
     })
     @GetMapping
-    public ResponseEntity<FarmrandingResponseBody<List<PriceQuoteResponse>>> getMyPriceQuotes(
-            @CurrentUser User currentUser) {
+    public ResponseEntity<FarmrandingResponseBody<List<PriceQuoteSummaryResponse>>> getMyPriceQuotes(
+            @CurrentUser UserPrincipal currentUser) {
         
-        List<PriceQuoteResponse> responses = priceQuoteService.getMyPriceQuotes(currentUser);
+        List<PriceQuoteSummaryResponse> responses = priceQuoteService.getMyPriceQuotes(currentUser);
         return ResponseEntity.ok(FarmrandingResponseBody.success(responses));
     }
     
@@ -65,7 +66,7 @@ public class PriceQuoteController {
     })
     @GetMapping("/{priceQuoteId}")
     public ResponseEntity<FarmrandingResponseBody<PriceQuoteResponse>> getPriceQuote(
-            @CurrentUser User currentUser,
+            @CurrentUser UserPrincipal currentUser,
             @Parameter(description = "가격 견적 요청 ID", example = "1")
             @PathVariable Long priceQuoteId) {
         
@@ -81,7 +82,7 @@ public class PriceQuoteController {
     })
     @DeleteMapping("/{priceQuoteId}")
     public ResponseEntity<Void> deletePriceQuote(
-            @CurrentUser User currentUser,
+            @CurrentUser UserPrincipal currentUser,
             @Parameter(description = "가격 견적 요청 ID", example = "1")
             @PathVariable Long priceQuoteId) {
         
@@ -7,11 +7,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.fr.farmranding.auth.CurrentUser;
+import org.fr.farmranding.auth.UserPrincipal;
 import org.fr.farmranding.common.dto.FarmrandingResponseBody;
 import org.fr.farmranding.dto.user.UserProfileResponse;
 import org.fr.farmranding.dto.user.UserProfileUpdateRequest;
 import org.fr.farmranding.dto.user.UserUsageResponse;
-import org.fr.farmranding.entity.user.User;
 import org.fr.farmranding.service.UserService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -33,7 +33,7 @@ public class UserController {
     })
     @GetMapping("/profile")
     public ResponseEntity<FarmrandingResponseBody<UserProfileResponse>> getUserProfile(
-            @CurrentUser User currentUser) {
+            @CurrentUser UserPrincipal currentUser) {
         
         UserProfileResponse response = userService.getUserProfile(currentUser.getId());
         return ResponseEntity.ok(FarmrandingResponseBody.success(response));
@@ -47,7 +47,7 @@ public class UserController {
     })
     @PutMapping("/profile")
     public ResponseEntity<FarmrandingResponseBody<UserProfileResponse>> updateUserProfile(
-            @CurrentUser User currentUser,
+            @CurrentUser UserPrincipal currentUser,
             @Valid @RequestBody UserProfileUpdateRequest request) {
         
         UserProfileResponse response = userService.updateUserProfile(currentUser.getId(), request);
@@ -62,7 +62,7 @@ public class UserController {
     })
     @GetMapping("/usage")
     public ResponseEntity<FarmrandingResponseBody<UserUsageResponse>> getUserUsage(
-            @CurrentUser User currentUser) {
+            @CurrentUser UserPrincipal currentUser) {
         
         UserUsageResponse response = userService.getUserUsage(currentUser.getId());
         return ResponseEntity.ok(FarmrandingResponseBody.success(response));
@@ -76,7 +76,7 @@ public class UserController {
     })
     @PostMapping("/upgrade")
     public ResponseEntity<FarmrandingResponseBody<UserProfileResponse>> upgradeToProMembership(
-            @CurrentUser User currentUser) {
+            @CurrentUser UserPrincipal currentUser) {
         
         UserProfileResponse response = userService.upgradeToProMembership(currentUser.getId());
         return ResponseEntity.ok(FarmrandingResponseBody.success(response));
@@ -90,7 +90,7 @@ public class UserController {
     })
     @DeleteMapping
     public ResponseEntity<FarmrandingResponseBody<Void>> deleteUser(
-            @CurrentUser User currentUser) {
+            @CurrentUser UserPrincipal currentUser) {
         
         userService.deleteUser(currentUser.getId());
         return ResponseEntity.status(HttpStatus.NO_CONTENT)
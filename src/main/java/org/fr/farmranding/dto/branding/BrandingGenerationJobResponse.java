@@ -0,0 +1,44 @@
+package org.fr.farmranding.dto.branding;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.fr.farmranding.entity.branding.BrandingGenerationJob;
+import org.fr.farmranding.entity.branding.GenerationJobStatus;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "브랜딩 생성 작업 응답 DTO")
+public record BrandingGenerationJobResponse(
+        
+        @Schema(description = "작업 ID", example = "1")
+        Long jobId,
+        
+        @Schema(description = "작업 상태", example = "RUNNING")
+        GenerationJobStatus status,
+        
+        @Schema(description = "생성된 브랜딩 프로젝트 ID (완료 시)", example = "1")
+        Long projectId,
+        
+        @Schema(description = "실패 사유 (실패 시)")
+        String errorMessage,
+        
+        @Schema(description = "요청일시", example = "2024-01-15T10:30:00")
+        LocalDateTime createdAt,
+        
+        @Schema(description = "실행 시작일시", example = "2024-01-15T10:30:01")
+        LocalDateTime startedAt,
+        
+        @Schema(description = "종료일시", example = "2024-01-15T10:30:05")
+        LocalDateTime finishedAt
+) {
+    public static BrandingGenerationJobResponse from(BrandingGenerationJob job) {
+        return new BrandingGenerationJobResponse(
+                job.getId(),
+                job.getStatus(),
+                job.getProjectId(),
+                job.getErrorMessage(),
+                job.getCreatedAt(),
+                job.getStartedAt(),
+                job.getFinishedAt()
+        );
+    }
+}
@@ -0,0 +1,30 @@
+package org.fr.farmranding.dto.branding;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.fr.farmranding.entity.branding.Grade;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 화면용 브랜딩 요약 DTO
+ * 저장소에서 필요한 컬럼만 직접 조회하므로 TEXT/JSON 컬럼을 읽거나 변환하지 않습니다.
+ */
+@Schema(description = "브랜딩 요약 응답 DTO")
+public record BrandingProjectSummaryResponse(
+        
+        @Schema(description = "브랜딩 ID", example = "1")
+        Long id,
+        
+        @Schema(description = "브랜딩 제목", example = "김씨농장 유기농 토마토 브랜딩")
+        String title,
+        
+        @Schema(description = "작물명", example = "토마토")
+        String cropName,
+        
+        @Schema(description = "등급", example = "SPECIAL")
+        Grade grade,
+        
+        @Schema(description = "수정일시", example = "2024-01-15T10:30:00")
+        LocalDateTime updatedAt
+) {
+}
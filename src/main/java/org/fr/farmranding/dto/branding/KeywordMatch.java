@@ -0,0 +1,11 @@
+package org.fr.farmranding.dto.branding;
+
+/**
+ * 키워드 검색 조건
+ */
+public enum KeywordMatch {
+    // 키워드 중 하나 이상 포함
+    ANY,
+    // 모든 키워드 포함
+    ALL
+}
@@ -0,0 +1,34 @@
+package org.fr.farmranding.dto.pricequote;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.fr.farmranding.entity.pricequote.PriceQuoteStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 목록 화면용 가격 견적 요약 DTO
+ * 저장소에서 필요한 컬럼만 직접 조회하므로 분석 결과(TEXT)를 읽지 않습니다.
+ */
+@Schema(description = "가격 견적 요약 응답 DTO")
+public record PriceQuoteSummaryResponse(
+        
+        @Schema(description = "요청 ID", example = "1")
+        Long id,
+        
+        @Schema(description = "작물명", example = "토마토")
+        String cropName,
+        
+        @Schema(description = "등급", example = "특급")
+        String grade,
+        
+        @Schema(description = "상태", example = "COMPLETED")
+        PriceQuoteStatus status,
+        
+        @Schema(description = "최종 분석 가격 (원)", example = "18000")
+        BigDecimal finalPrice,
+        
+        @Schema(description = "수정일시", example = "2024-01-15T10:30:00")
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,11 @@
+package org.fr.farmranding.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+@Schema(description = "토큰 재발급 요청 DTO")
+public record TokenRefreshRequest(
+    @NotBlank(message = "리프레시 토큰은 필수입니다.")
+    @Schema(description = "리프레시 토큰", required = true)
+    String refreshToken
+) {}
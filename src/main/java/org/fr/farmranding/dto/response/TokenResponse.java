@@ -0,0 +1,12 @@
+package org.fr.farmranding.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "토큰 발급 응답 DTO")
+public record TokenResponse(
+    @Schema(description = "액세스 토큰")
+    String accessToken,
+    
+    @Schema(description = "리프레시 토큰 (이전 리프레시 토큰은 폐기됨)")
+    String refreshToken
+) {}
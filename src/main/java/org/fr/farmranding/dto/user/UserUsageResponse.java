@@ -3,6 +3,7 @@ package org.fr.farmranding.dto.user;
 import io.swagger.v3.oas.annotations.media.Schema;
 import org.fr.farmranding.entity.user.MembershipType;
 import org.fr.farmranding.entity.user.User;
+import org.fr.farmranding.service.PlanLimits;
 
 @Schema(description = "사용자 사용량 조회 응답 DTO")
 public record UserUsageResponse(
@@ -10,13 +11,13 @@ public record UserUsageResponse(
         @Schema(description = "멤버십 타입", example = "FREE")
         MembershipType membershipType,
         
-        @Schema(description = "AI 브랜딩 사용 횟수", example = "3")
+        @Schema(description = "AI 브랜딩 사용 횟수 (최근 기간 창)", example = "3")
         Integer aiBrandingUsageCount,
         
         @Schema(description = "AI 브랜딩 사용 한도", example = "5")
         Integer aiBrandingLimit,
         
-        @Schema(description = "가격 제안 사용 횟수", example = "2")
+        @Schema(description = "가격 제안 사용 횟수 (최근 기간 창)", example = "2")
         Integer pricingSuggestionUsageCount,
         
         @Schema(description = "가격 제안 사용 한도", example = "10")
@@ -34,20 +35,24 @@ public record UserUsageResponse(
         @Schema(description = "가격 제안 남은 횟수", example = "8")
         Integer remainingPricingSuggestionCount
 ) {
-    public static UserUsageResponse from(User user) {
-        int aiBrandingLimit = user.getMembershipType().getAiBrandingLimit();
-        int pricingLimit = user.getMembershipType().getPricingSuggestionLimit();
+    /**
+     * 현재 기간 창의 사용량으로 응답 생성
+     */
+    public static UserUsageResponse from(User user, PlanLimits limits,
+                                         int aiBrandingUsageCount, int pricingSuggestionUsageCount) {
+        int aiBrandingLimit = limits.aiBrandingLimit();
+        int pricingLimit = limits.pricingSuggestionLimit();
         
         return new UserUsageResponse(
                 user.getMembershipType(),
-                user.getAiBrandingUsageCount(),
+                aiBrandingUsageCount,
                 aiBrandingLimit,
-                user.getPricingSuggestionUsageCount(),
+                pricingSuggestionUsageCount,
                 pricingLimit,
-                user.canUseAiBranding(),
-                user.canUsePricingSuggestion(),
-                Math.max(0, aiBrandingLimit - user.getAiBrandingUsageCount()),
-                Math.max(0, pricingLimit - user.getPricingSuggestionUsageCount())
+                aiBrandingUsageCount < aiBrandingLimit,
+                pricingSuggestionUsageCount < pricingLimit,
+                Math.max(0, aiBrandingLimit - aiBrandingUsageCount),
+                Math.max(0, pricingLimit - pricingSuggestionUsageCount)
         );
     }
 } 
\ No newline at end of file
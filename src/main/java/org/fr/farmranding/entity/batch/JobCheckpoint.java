@@ -0,0 +1,40 @@
+package org.fr.farmranding.entity.batch;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.fr.farmranding.common.entity.BaseEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치 작업 진행 상황
+ * 작업이 중단되어도 마지막으로 처리한 ID부터 이어서 실행할 수 있도록 청크마다 갱신합니다.
+ * lockedUntil은 여러 노드 중 한 곳에서만 작업이 실행되도록 하는 임대 만료 시각입니다.
+ */
+@Entity
+@Table(name = "job_checkpoints")
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobCheckpoint extends BaseEntity {
+    
+    @Column(name = "job_name", nullable = false, unique = true, length = 100)
+    private String jobName;
+    
+    // 실행 단위 (예: 월간 초기화의 "2025-07")
+    @Column(name = "period", length = 20)
+    private String period;
+    
+    @Column(name = "last_processed_id", nullable = false)
+    private Long lastProcessedId;
+    
+    @Column(name = "completed", nullable = false)
+    private Boolean completed;
+    
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+}
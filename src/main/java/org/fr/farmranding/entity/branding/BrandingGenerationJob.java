@@ -0,0 +1,68 @@
+package org.fr.farmranding.entity.branding;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.fr.farmranding.common.entity.BaseEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * AI 브랜딩 생성 작업
+ * 생성 요청을 저장해 두고 워커가 DB 트랜잭션 밖에서 모델을 호출한 뒤, 결과 프로젝트 저장과 완료 처리만 짧은 트랜잭션으로 묶습니다.
+ * 상태 전이는 모두 조건부 UPDATE로 처리하므로 여러 노드가 같은 작업을 동시에 실행하지 않습니다.
+ */
+@Entity
+@Table(name = "branding_generation_jobs", indexes = {
+        @Index(name = "idx_branding_generation_jobs_status", columnList = "status, id"),
+        @Index(name = "idx_branding_generation_jobs_user", columnList = "user_id, status")
+})
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BrandingGenerationJob extends BaseEntity {
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private GenerationJobStatus status = GenerationJobStatus.QUEUED;
+    
+    // 생성 요청 (BrandingProjectCreateRequest JSON)
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+    
+    // 실패 시 사용량 차감 취소용 (생성 결과 캐시 적중으로 차감하지 않았으면 null, 실제 생성 시 워커가 채움)
+    @Column(name = "usage_bucket_index")
+    private Long usageBucketIndex;
+    
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+    
+    // 생성 완료된 브랜딩 프로젝트
+    @Column(name = "project_id")
+    private Long projectId;
+    
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+    
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+    
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+    
+    /**
+     * 접수 후 캐시 미스로 워커가 차감한 사용량 구간 기록 (DB에는 조건부 UPDATE로 반영)
+     */
+    public void assignUsageBucket(Long usageBucketIndex) {
+        this.usageBucketIndex = usageBucketIndex;
+    }
+}
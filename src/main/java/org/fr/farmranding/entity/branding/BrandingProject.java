@@ -12,7 +12,10 @@ import org.fr.farmranding.common.converter.JsonConverter;
 import java.util.List;
 
 @Entity
-@Table(name = "branding_projects")
+@Table(name = "branding_projects", indexes = {
+        // 사용자별 최근 수정 순 키셋 페이지네이션
+        @Index(name = "idx_branding_projects_user_updated", columnList = "user_id, updated_at, id")
+})
 @Getter
 @SuperBuilder
 @NoArgsConstructor
@@ -113,6 +116,11 @@ public class BrandingProject extends BaseEntity {
         this.brandImageUrl = brandImageUrl;
     }
     
+    public void updateGeneratedCopy(String promotionText, String brandStory) {
+        this.promotionText = promotionText;
+        this.brandStory = brandStory;
+    }
+    
     /**
      * 새로운 플로우: 모든 정보를 한 번에 설정하고 GPT 처리 후 완료
      */
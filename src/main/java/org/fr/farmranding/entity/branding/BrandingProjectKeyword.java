@@ -0,0 +1,39 @@
+package org.fr.farmranding.entity.branding;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.fr.farmranding.common.entity.BaseEntity;
+
+/**
+ * 브랜딩 프로젝트 키워드 역색인
+ * 프로젝트의 JSON 키워드 컬럼을 (키워드 ID, 프로젝트 ID, 종류) 행으로 펼쳐 저장합니다.
+ * 검색은 항상 사용자 범위이므로 user_id를 함께 두어 (user_id, keyword_id) 인덱스만으로 후보 프로젝트를 찾습니다.
+ */
+@Entity
+@Table(name = "branding_project_keywords", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_branding_project_keywords", columnNames = {"project_id", "kind", "keyword_id"})
+}, indexes = {
+        @Index(name = "idx_branding_project_keywords_search", columnList = "user_id, keyword_id, kind, project_id")
+})
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BrandingProjectKeyword extends BaseEntity {
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+    
+    @Column(name = "keyword_id", nullable = false)
+    private Long keywordId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", nullable = false, length = 20)
+    private KeywordKind kind;
+}
@@ -0,0 +1,36 @@
+package org.fr.farmranding.entity.branding;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.fr.farmranding.common.entity.BaseEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 브랜딩 생성 결과 캐시 (영구 계층)
+ * 정규화한 생성 입력의 SHA-256 해시를 키로 결과를 보관해 노드 재시작 후와 다른 노드에서도 재사용합니다.
+ */
+@Entity
+@Table(name = "branding_generation_cache", indexes = {
+        @Index(name = "uk_branding_generation_cache_key", columnList = "cache_key", unique = true),
+        @Index(name = "idx_branding_generation_cache_expires_at", columnList = "expires_at")
+})
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GenerationCacheEntry extends BaseEntity {
+    
+    @Column(name = "cache_key", nullable = false, length = 64)
+    private String cacheKey;
+    
+    // 생성 결과 (GeneratedBranding JSON)
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+    
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
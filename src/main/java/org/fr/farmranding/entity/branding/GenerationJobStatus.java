@@ -0,0 +1,23 @@
+package org.fr.farmranding.entity.branding;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 브랜딩 생성 작업 상태
+ * QUEUED → RUNNING → SUCCEEDED | FAILED (실행 중 노드가 멈추면 RUNNING → QUEUED로 재시도)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum GenerationJobStatus {
+    QUEUED("대기"),
+    RUNNING("생성 중"),
+    SUCCEEDED("완료"),
+    FAILED("실패");
+    
+    private final String displayName;
+    
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED;
+    }
+}
@@ -0,0 +1,26 @@
+package org.fr.farmranding.entity.branding;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.fr.farmranding.common.entity.BaseEntity;
+
+/**
+ * 키워드 사전
+ * 같은 키워드 문자열은 하나의 행(ID)으로만 저장되고, 프로젝트와의 연결은 ID로만 참조합니다.
+ */
+@Entity
+@Table(name = "keywords", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_keywords_keyword", columnNames = "keyword")
+})
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Keyword extends BaseEntity {
+    
+    @Column(name = "keyword", nullable = false, length = 100)
+    private String keyword;
+}
@@ -0,0 +1,17 @@
+package org.fr.farmranding.entity.branding;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 브랜딩 프로젝트 키워드 종류
+ */
+@Getter
+@RequiredArgsConstructor
+public enum KeywordKind {
+    BRANDING("브랜딩 키워드"),
+    CROP_APPEAL("작물 매력 키워드"),
+    LOGO_IMAGE("로고 이미지 키워드");
+    
+    private final String displayName;
+}
@@ -0,0 +1,37 @@
+package org.fr.farmranding.entity.cache;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.fr.farmranding.common.entity.BaseEntity;
+
+import java.time.Instant;
+
+/**
+ * 캐시 무효화 변경 기록
+ * 각 노드가 주기적으로 새 기록을 읽어 자신의 로컬 캐시를 무효화합니다.
+ */
+@Entity
+@Table(name = "cache_invalidation_events", indexes = {
+        @Index(name = "idx_cache_invalidation_events_published_at", columnList = "published_at")
+})
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidationEvent extends BaseEntity {
+    
+    @Column(name = "cache_name", nullable = false, length = 50)
+    private String cacheName;
+    
+    @Column(name = "cache_key", length = 100)
+    private String cacheKey;
+    
+    @Column(name = "origin_node_id", nullable = false, length = 50)
+    private String originNodeId;
+    
+    @Column(name = "published_at", nullable = false)
+    private Instant publishedAt;
+}
@@ -0,0 +1,36 @@
+package org.fr.farmranding.entity.token;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.fr.farmranding.common.entity.BaseEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 폐기된 리프레시 토큰
+ * 사용된 토큰의 jti 또는 재사용이 감지된 토큰 패밀리("family:{id}")를 기록합니다.
+ */
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "idx_revoked_tokens_created_at", columnList = "created_at"),
+        @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at")
+})
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedToken extends BaseEntity {
+    
+    @Column(name = "token_id", nullable = false, unique = true, length = 100)
+    private String tokenId;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    // 원래 토큰의 만료 시각 (이후에는 기록을 지워도 됨)
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,38 @@
+package org.fr.farmranding.entity.user;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.fr.farmranding.common.entity.BaseEntity;
+
+/**
+ * 사용자별 고정 시간 구간의 사용량
+ * bucketIndex는 에폭 시각을 구간 길이로 나눈 값이며, 기간 한도는 최근 N개 구간의 합으로 계산합니다.
+ */
+@Entity
+@Table(name = "usage_buckets", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_usage_buckets_user_type_bucket", columnNames = {"user_id", "usage_type", "bucket_index"})
+}, indexes = {
+        @Index(name = "idx_usage_buckets_bucket_index", columnList = "bucket_index")
+})
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UsageBucket extends BaseEntity {
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "usage_type", nullable = false, length = 30)
+    private UsageType usageType;
+    
+    @Column(name = "bucket_index", nullable = false)
+    private Long bucketIndex;
+    
+    @Column(name = "usage_count", nullable = false)
+    private Integer usageCount;
+}
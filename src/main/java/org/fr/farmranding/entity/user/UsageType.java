@@ -0,0 +1,21 @@
+package org.fr.farmranding.entity.user;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.fr.farmranding.common.code.FarmrandingResponseCode;
+
+/**
+ * 멤버십 한도가 적용되는 사용량 종류
+ */
+@Getter
+@RequiredArgsConstructor
+public enum UsageType {
+    AI_BRANDING("ai_branding_usage_count", FarmrandingResponseCode.AI_BRANDING_USAGE_LIMIT_EXCEEDED),
+    PRICING_SUGGESTION("pricing_suggestion_usage_count", FarmrandingResponseCode.PRICING_USAGE_LIMIT_EXCEEDED);
+    
+    // users 테이블의 사용량 컬럼
+    private final String columnName;
+    
+    // 한도 초과 시 응답 코드
+    private final FarmrandingResponseCode limitExceededCode;
+}
@@ -25,7 +25,7 @@ public class User extends BaseEntity {
     @Column(name = "name")
     private String name;
 
-    @Column(name = "provider_id", nullable = false)
+    @Column(name = "provider_id", unique = true, nullable = false)
     private String providerId;
     
     @Enumerated(EnumType.STRING)
@@ -33,10 +33,16 @@ public class User extends BaseEntity {
     @Builder.Default
     private MembershipType membershipType = MembershipType.FREE;
     
+    /**
+     * 누적 사용량 통계 (초기화하지 않음, 한도 판정은 usage_buckets의 기간 창 합계로 함)
+     */
     @Column(name = "ai_branding_usage_count", nullable = false)
     @Builder.Default
     private Integer aiBrandingUsageCount = 0;
     
+    /**
+     * 누적 사용량 통계 (초기화하지 않음, 한도 판정은 usage_buckets의 기간 창 합계로 함)
+     */
     @Column(name = "pricing_suggestion_usage_count", nullable = false)
     @Builder.Default
     private Integer pricingSuggestionUsageCount = 0;
@@ -57,31 +63,4 @@ public class User extends BaseEntity {
     public void upgradeToProMembership() {
         this.membershipType = MembershipType.PRO;
     }
-    
-    public void incrementAiBrandingUsage() {
-        this.aiBrandingUsageCount++;
-    }
-    
-    public void incrementPricingSuggestionUsage() {
-        this.pricingSuggestionUsageCount++;
-    }
-    
-    public boolean canUseAiBranding() {
-        if (membershipType == MembershipType.PRO) {
-            return true;
-        }
-        return aiBrandingUsageCount < MembershipType.FREE.getAiBrandingLimit();
-    }
-    
-    public boolean canUsePricingSuggestion() {
-        if (membershipType == MembershipType.PRO) {
-            return true;
-        }
-        return pricingSuggestionUsageCount < MembershipType.FREE.getPricingSuggestionLimit();
-    }
-    
-    public void resetUsageCounts() {
-        this.aiBrandingUsageCount = 0;
-        this.pricingSuggestionUsageCount = 0;
-    }
 } 
\ No newline at end of file
@@ -0,0 +1,176 @@
+package org.fr.farmranding.generation;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.fr.farmranding.auth.UserPrincipal;
+import org.fr.farmranding.common.code.FarmrandingResponseCode;
+import org.fr.farmranding.common.exception.BusinessException;
+import org.fr.farmranding.config.GenerationProperties;
+import org.fr.farmranding.dto.branding.BrandingProjectCreateRequest;
+import org.fr.farmranding.dto.branding.BrandingProjectResponse;
+import org.fr.farmranding.entity.user.UsageType;
+import org.fr.farmranding.service.BrandingService;
+import org.fr.farmranding.service.QuotaLedgerService;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 브랜딩 문구 생성 진행 상황 SSE 스트리머
+ * 요청 스레드는 emitter만 반환하고 바로 돌아가며(서블릿 비동기 처리), 생성은 가상 스레드에서 진행합니다.
+ * 노드당 동시 스트림 수는 세마포어로 제한하고, 자리가 없으면 대기 없이 503으로 거절합니다.
+ * 생성 도중 클라이언트가 끊어도 생성은 끝까지 진행하며, 결과는 마지막에 한 번만 프로젝트에 저장합니다.
+ *
+ * 이벤트: status(RUNNING) → delta(field, text) 반복 → completed(프로젝트) 또는 failed(message)
+ */
+@Slf4j
+@Component
+public class BrandingCopyStreamer {
+    
+    private final BrandingService brandingService;
+    private final BrandingGenerator brandingGenerator;
+    private final QuotaLedgerService quotaLedgerService;
+    private final GenerationProperties.Stream properties;
+    private final Semaphore permits;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("branding-copy-stream-", 0).factory());
+    
+    public BrandingCopyStreamer(BrandingService brandingService,
+                                BrandingGenerator brandingGenerator,
+                                QuotaLedgerService quotaLedgerService,
+                                GenerationProperties generationProperties,
+                                MeterRegistry meterRegistry) {
+        this.brandingService = brandingService;
+        this.brandingGenerator = brandingGenerator;
+        this.quotaLedgerService = quotaLedgerService;
+        this.properties = generationProperties.getStream();
+        this.permits = new Semaphore(properties.getMaxConcurrentStreams());
+        
+        Gauge.builder("farmranding.branding.copy.streams", permits,
+                        p -> properties.getMaxConcurrentStreams() - p.availablePermits())
+                .description("진행 중인 브랜딩 문구 생성 스트림 수")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 프로젝트의 홍보 문구와 브랜드 스토리를 다시 생성하며 스트리밍
+     */
+    public SseEmitter stream(Long projectId, UserPrincipal currentUser) {
+        // 없는 프로젝트면 사용량 차감과 스트림 점유 전에 404
+        BrandingProjectResponse project = brandingService.getBrandingProject(projectId, currentUser);
+        
+        if (!permits.tryAcquire()) {
+            throw BusinessException.expected(FarmrandingResponseCode.STREAM_LIMIT_EXCEEDED);
+        }
+        
+        long usageBucketIndex;
+        try {
+            usageBucketIndex = quotaLedgerService.consume(currentUser, UsageType.AI_BRANDING);
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        
+        Stream stream = new Stream(new SseEmitter(properties.getTimeout().toMillis()));
+        try {
+            executor.execute(() -> {
+                try {
+                    run(stream, project, currentUser.getId(), usageBucketIndex);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            permits.release();
+            quotaLedgerService.refund(currentUser.getId(), UsageType.AI_BRANDING, usageBucketIndex);
+            throw e;
+        }
+        return stream.emitter;
+    }
+    
+    private void run(Stream stream, BrandingProjectResponse project, Long userId, long usageBucketIndex) {
+        stream.send("status", Map.of("status", "RUNNING"));
+        try {
+            GeneratedBranding generated = brandingGenerator.generate(toGenerationRequest(project),
+                    (field, text) -> stream.send("delta", Map.of("field", field, "text", text)));
+            
+            BrandingProjectResponse saved = brandingService.updateGeneratedCopy(
+                    project.id(), userId, generated.promotionText(), generated.brandStory());
+            stream.send("completed", saved);
+            stream.complete();
+        } catch (RuntimeException e) {
+            log.error("브랜딩 문구 스트리밍 생성 실패: projectId={}", project.id(), e);
+            quotaLedgerService.refund(userId, UsageType.AI_BRANDING, usageBucketIndex);
+            stream.send("failed", Map.of("message", "브랜딩 문구 생성에 실패했습니다."));
+            stream.complete();
+        }
+    }
+    
+    private static BrandingProjectCreateRequest toGenerationRequest(BrandingProjectResponse project) {
+        return new BrandingProjectCreateRequest(
+                project.title(),
+                project.cropName(),
+                project.variety(),
+                project.cultivationMethod(),
+                project.grade(),
+                project.isGapVerified(),
+                project.brandingKeywords(),
+                project.cropAppealKeywords(),
+                project.logoImageKeywords()
+        );
+    }
+    
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+    
+    /**
+     * 연결이 끊긴 뒤에는 전송을 건너뛰는 emitter 래퍼
+     */
+    private static final class Stream {
+        
+        private final SseEmitter emitter;
+        private volatile boolean open = true;
+        
+        Stream(SseEmitter emitter) {
+            this.emitter = emitter;
+            emitter.onCompletion(() -> open = false);
+            emitter.onTimeout(() -> {
+                open = false;
+                emitter.complete();
+            });
+            emitter.onError(e -> open = false);
+        }
+        
+        void send(String name, Object data) {
+            if (!open) {
+                return;
+            }
+            try {
+                emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException e) {
+                open = false;
+                log.debug("SSE 전송 중단 (클라이언트 연결 종료): {}", e.getMessage());
+            }
+        }
+        
+        void complete() {
+            if (open) {
+                emitter.complete();
+            }
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package org.fr.farmranding.generation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.fr.farmranding.auth.UserPrincipal;
+import org.fr.farmranding.common.code.FarmrandingResponseCode;
+import org.fr.farmranding.common.exception.BusinessException;
+import org.fr.farmranding.config.GenerationProperties;
+import org.fr.farmranding.dto.branding.BrandingProjectCreateRequest;
+import org.fr.farmranding.entity.branding.BrandingGenerationJob;
+import org.fr.farmranding.entity.branding.GenerationJobStatus;
+import org.fr.farmranding.entity.user.UsageType;
+import org.fr.farmranding.repository.BrandingGenerationJobRepository;
+import org.fr.farmranding.repository.UserRepository;
+import org.fr.farmranding.service.BrandingService;
+import org.fr.farmranding.service.QuotaLedgerService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI 브랜딩 생성 작업 실행기
+ * 작업마다 가상 스레드 하나를 쓰고, 세마포어로 노드당 동시 실행 수를 제한합니다.
+ * 상한에 걸린 작업은 QUEUED로 DB에 남아 있다가 주기적 폴링으로 실행되므로 메모리 대기열이 없습니다.
+ * 모델 호출 동안에는 DB 커넥션을 잡지 않으며, 결과 저장과 완료 처리만 한 트랜잭션으로 묶습니다.
+ */
+@Slf4j
+@Component
+public class BrandingGenerationWorker {
+    
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 500;
+    
+    private final BrandingGenerationJobRepository jobRepository;
+    private final UserRepository userRepository;
+    private final BrandingService brandingService;
+    private final BrandingGenerator brandingGenerator;
+    private final GenerationResultCache generationResultCache;
+    private final QuotaLedgerService quotaLedgerService;
+    private final ObjectMapper objectMapper;
+    private final GenerationProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Semaphore permits;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("branding-generation-", 0).factory());
+    private final Timer succeededTimer;
+    private final Timer failedTimer;
+    
+    public BrandingGenerationWorker(BrandingGenerationJobRepository jobRepository,
+                                    UserRepository userRepository,
+                                    BrandingService brandingService,
+                                    BrandingGenerator brandingGenerator,
+                                    GenerationResultCache generationResultCache,
+                                    QuotaLedgerService quotaLedgerService,
+                                    ObjectMapper objectMapper,
+                                    GenerationProperties properties,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry) {
+        this.jobRepository = jobRepository;
+        this.userRepository = userRepository;
+        this.brandingService = brandingService;
+        this.brandingGenerator = brandingGenerator;
+        this.generationResultCache = generationResultCache;
+        this.quotaLedgerService = quotaLedgerService;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.permits = new Semaphore(properties.getMaxConcurrency());
+        
+        this.succeededTimer = Timer.builder("farmranding.branding.generation.duration")
+                .description("브랜딩 생성 작업 실행 시간")
+                .tag("outcome", "succeeded")
+                .register(meterRegistry);
+        this.failedTimer = Timer.builder("farmranding.branding.generation.duration")
+                .description("브랜딩 생성 작업 실행 시간")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+        Gauge.builder("farmranding.branding.generation.active", permits,
+                        p -> properties.getMaxConcurrency() - p.availablePermits())
+                .description("실행 중인 브랜딩 생성 작업 수")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 작업 실행 (커밋 전에는 다른 커넥션에서 작업이 보이지 않음)
+     */
+    public void dispatchAfterCommit(Long jobId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(jobId);
+            return;
+        }
+        
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch(jobId);
+            }
+        });
+    }
+    
+    /**
+     * 실행 자리가 있으면 바로 실행, 없으면 QUEUED로 두고 폴링에 맡김
+     */
+    public void dispatch(Long jobId) {
+        if (!permits.tryAcquire()) {
+            log.debug("동시 실행 상한으로 대기: jobId={}", jobId);
+            return;
+        }
+        
+        try {
+            executor.execute(() -> {
+                try {
+                    run(jobId);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            permits.release();
+            log.warn("브랜딩 생성 작업 실행 실패: jobId={}, error={}", jobId, e.getMessage());
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${farmranding.generation.poll-interval-ms:2000}")
+    public void pollQueued() {
+        int available = permits.availablePermits();
+        if (available == 0) {
+            return;
+        }
+        jobRepository.findIdsByStatus(GenerationJobStatus.QUEUED, PageRequest.of(0, available))
+                .forEach(this::dispatch);
+    }
+    
+    /**
+     * 실행 노드가 멈춘 작업 재시도 (최대 실행 횟수 초과 시 실패 처리)
+     */
+    @Scheduled(fixedDelayString = "${farmranding.generation.recover-interval-ms:30000}")
+    public void recoverStale() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime before = now.minus(properties.getStaleAfter());
+        
+        for (BrandingGenerationJob job : jobRepository.findStale(before, GenerationJobStatus.RUNNING)) {
+            if (job.getAttempts() >= properties.getMaxAttempts()) {
+                fail(job, job.getAttempts(), "최대 실행 횟수를 초과했습니다.");
+            } else if (jobRepository.requeue(job.getId(), job.getAttempts(), before, now,
+                    GenerationJobStatus.RUNNING, GenerationJobStatus.QUEUED) > 0) {
+                log.warn("멈춘 브랜딩 생성 작업 재시도: jobId={}, attempts={}", job.getId(), job.getAttempts());
+            }
+        }
+    }
+    
+    private void run(Long jobId) {
+        if (jobRepository.claim(jobId, LocalDateTime.now(), GenerationJobStatus.QUEUED, GenerationJobStatus.RUNNING) == 0) {
+            return;
+        }
+        
+        BrandingGenerationJob job = jobRepository.findById(jobId).orElseThrow();
+        // 선점으로 올린 실행 횟수 (이후 상태 전환은 이 실행이 여전히 최신일 때만 적용)
+        int attempt = job.getAttempts();
+        Timer.Sample sample = Timer.start();
+        try {
+            BrandingProjectCreateRequest request = objectMapper.readValue(job.getPayload(), BrandingProjectCreateRequest.class);
+            
+            // 트랜잭션 밖에서 모델 호출 (같은 입력의 결과가 캐시에 있으면 재사용)
+            GeneratedBranding generated = generate(job, attempt, request);
+            
+            transactionTemplate.executeWithoutResult(status -> {
+                Long projectId = brandingService.saveGeneratedProject(job.getUserId(), request, generated);
+                if (jobRepository.complete(jobId, attempt, projectId, LocalDateTime.now(),
+                        GenerationJobStatus.RUNNING, GenerationJobStatus.SUCCEEDED) == 0) {
+                    // 실행 중 멈춘 작업으로 판단되어 재시도/실패 처리된 경우 결과를 버림
+                    throw new IllegalStateException("이미 다른 상태로 바뀐 작업입니다.");
+                }
+            });
+            sample.stop(succeededTimer);
+            log.info("브랜딩 생성 완료: jobId={}, userId={}", jobId, job.getUserId());
+        } catch (JsonProcessingException | RuntimeException e) {
+            if (Thread.currentThread().isInterrupted()) {
+                // 종료 중 중단된 작업은 실패로 확정하지 않고 RUNNING으로 남겨 recoverStale이 재시도
+                log.warn("브랜딩 생성 중단: jobId={}, attempt={}", jobId, attempt);
+                return;
+            }
+            sample.stop(failedTimer);
+            log.error("브랜딩 생성 실패: jobId={}", jobId, e);
+            fail(job, attempt, e.getMessage());
+        }
+    }
+    
+    /**
+     * 캐시 적중이면 그대로 쓰고, 미스면 이 작업의 사용량을 먼저 확인한 뒤 공유 생성에 참여
+     * 차감을 공유 생성 밖에서 하므로 이 작업의 한도 초과가 같은 입력을 기다리는 다른 사용자의 작업에 전달되지 않습니다.
+     */
+    private GeneratedBranding generate(BrandingGenerationJob job, int attempt, BrandingProjectCreateRequest request) {
+        GeneratedBranding cached = generationResultCache.getIfPresent(request);
+        if (cached != null) {
+            return cached;
+        }
+        
+        chargeIfUncharged(job, attempt);
+        return generationResultCache.getOrGenerate(request, () -> brandingGenerator.generate(request));
+    }
+    
+    /**
+     * 접수 때 캐시 적중으로 차감하지 않았는데 그 사이 캐시에서 빠져 실제로 생성하게 되면 생성 직전에 차감
+     */
+    private void chargeIfUncharged(BrandingGenerationJob job, int attempt) {
+        if (job.getUsageBucketIndex() != null) {
+            return;
+        }
+        
+        UserPrincipal user = userRepository.findById(job.getUserId())
+                .map(UserPrincipal::from)
+                .orElseThrow(() -> BusinessException.expected(FarmrandingResponseCode.USER_NOT_FOUND));
+        long bucketIndex = quotaLedgerService.consume(user, UsageType.AI_BRANDING);
+        if (jobRepository.assignUsageBucket(job.getId(), attempt, bucketIndex, LocalDateTime.now(),
+                GenerationJobStatus.RUNNING) == 0) {
+            quotaLedgerService.refund(job.getUserId(), UsageType.AI_BRANDING, bucketIndex);
+            throw new IllegalStateException("이미 다른 상태로 바뀐 작업입니다.");
+        }
+        job.assignUsageBucket(bucketIndex);
+    }
+    
+    private void fail(BrandingGenerationJob job, int attempt, String message) {
+        String errorMessage = message == null ? null
+                : message.substring(0, Math.min(message.length(), MAX_ERROR_MESSAGE_LENGTH));
+        if (jobRepository.fail(job.getId(), attempt, errorMessage, LocalDateTime.now(),
+                GenerationJobStatus.RUNNING, GenerationJobStatus.FAILED) > 0
+                && job.getUsageBucketIndex() != null) {
+            quotaLedgerService.refund(job.getUserId(), UsageType.AI_BRANDING, job.getUsageBucketIndex());
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        // 끝나지 않은 작업은 중단되어도 실패 처리하지 않고 RUNNING으로 남아 다른 노드(또는 재기동 후)에서 재시도됨
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package org.fr.farmranding.generation;
+
+import org.fr.farmranding.dto.branding.BrandingProjectCreateRequest;
+
+/**
+ * AI 브랜딩 생성기
+ * 워커 스레드(가상 스레드)에서 DB 트랜잭션 없이 호출되므로 오래 블로킹해도 됩니다.
+ * 실패는 런타임 예외로 알리며, 작업은 실패 상태가 되고 사용량 차감이 취소됩니다.
+ */
+public interface BrandingGenerator {
+    
+    GeneratedBranding generate(BrandingProjectCreateRequest request);
+    
+    /**
+     * 홍보 문구와 브랜드 스토리를 조각 단위로 알리며 생성
+     * 스트리밍을 지원하지 않는 생성기는 완성된 문구를 한 번에 전달합니다.
+     */
+    default GeneratedBranding generate(BrandingProjectCreateRequest request, CopyDeltaListener listener) {
+        GeneratedBranding generated = generate(request);
+        listener.onDelta(CopyField.PROMOTION_TEXT, generated.promotionText());
+        listener.onDelta(CopyField.BRAND_STORY, generated.brandStory());
+        return generated;
+    }
+}
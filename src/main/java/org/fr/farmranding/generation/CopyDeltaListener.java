@@ -0,0 +1,11 @@
+package org.fr.farmranding.generation;
+
+/**
+ * 생성 중인 문구 조각 수신기
+ * 생성기 스레드에서 조각이 만들어지는 순서대로 호출됩니다.
+ */
+@FunctionalInterface
+public interface CopyDeltaListener {
+    
+    void onDelta(CopyField field, String text);
+}
@@ -0,0 +1,9 @@
+package org.fr.farmranding.generation;
+
+/**
+ * 스트리밍으로 생성되는 브랜딩 문구 항목
+ */
+public enum CopyField {
+    PROMOTION_TEXT,
+    BRAND_STORY
+}
@@ -0,0 +1,12 @@
+package org.fr.farmranding.generation;
+
+/**
+ * 모델이 생성한 브랜딩 결과
+ */
+public record GeneratedBranding(
+        String brandName,
+        String promotionText,
+        String brandStory,
+        String brandConcept,
+        String brandImageUrl
+) {}
@@ -0,0 +1,325 @@
+package org.fr.farmranding.generation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.fr.farmranding.config.GenerationProperties;
+import org.fr.farmranding.dto.branding.BrandingProjectCreateRequest;
+import org.fr.farmranding.repository.GenerationCacheEntryRepository;
+import org.fr.farmranding.service.KeywordDictionary;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 브랜딩 생성 결과 캐시
+ * 작물명, 품종, 등급, 재배방법, GAP 인증 여부, 키워드 집합을 정규화한 SHA-256 해시를 키로 씁니다.
+ * (제목은 생성 결과에 쓰이지 않으므로 키에서 제외, 키워드는 순서와 중복을 무시)
+ *
+ * 조회 순서: 메모리 LRU → MySQL 영구 계층(선택) → 생성
+ * 같은 키를 동시에 요청하면 한 번만 생성하고 나머지는 그 결과를 함께 받습니다. (single-flight)
+ */
+@Slf4j
+@Component
+public class GenerationResultCache {
+    
+    private static final String KEY_VERSION = "v1";
+    private static final char FIELD_SEPARATOR = '\u001e';
+    private static final char VALUE_SEPARATOR = '\u001f';
+    
+    private final GenerationCacheEntryRepository cacheEntryRepository;
+    private final ObjectMapper objectMapper;
+    private final GenerationProperties.Cache properties;
+    private final Map<String, CachedResult> entries;
+    private final Map<String, CompletableFuture<GeneratedBranding>> inFlight = new ConcurrentHashMap<>();
+    
+    private final LongAdder memoryHits = new LongAdder();
+    private final LongAdder persistentHits = new LongAdder();
+    private final LongAdder sharedHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final DoubleAdder savedSeconds = new DoubleAdder();
+    private final MeterRegistry meterRegistry;
+    private final Timer generationTimer;
+    
+    public GenerationResultCache(GenerationCacheEntryRepository cacheEntryRepository,
+                                 ObjectMapper objectMapper,
+                                 GenerationProperties generationProperties,
+                                 MeterRegistry meterRegistry) {
+        this.cacheEntryRepository = cacheEntryRepository;
+        this.objectMapper = objectMapper;
+        this.properties = generationProperties.getCache();
+        this.meterRegistry = meterRegistry;
+        
+        int maxEntries = properties.getMaxEntries();
+        // 접근 순서 LinkedHashMap: 가득 차면 가장 오래 쓰지 않은 항목 제거
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResult> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.generationTimer = Timer.builder("farmranding.generation.cache.load")
+                .description("캐시 미스 시 생성 시간")
+                .register(meterRegistry);
+    }
+    
+    @PostConstruct
+    void registerMeters() {
+        FunctionCounter.builder("farmranding.generation.cache.requests", memoryHits, LongAdder::sum)
+                .tag("result", "hit-memory")
+                .register(meterRegistry);
+        FunctionCounter.builder("farmranding.generation.cache.requests", persistentHits, LongAdder::sum)
+                .tag("result", "hit-persistent")
+                .register(meterRegistry);
+        FunctionCounter.builder("farmranding.generation.cache.requests", sharedHits, LongAdder::sum)
+                .tag("result", "hit-in-flight")
+                .register(meterRegistry);
+        FunctionCounter.builder("farmranding.generation.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("farmranding.generation.cache.hit.ratio", this, GenerationResultCache::hitRatio)
+                .description("생성 결과 캐시 적중률")
+                .register(meterRegistry);
+        FunctionCounter.builder("farmranding.generation.cache.saved", savedSeconds, DoubleAdder::sum)
+                .description("캐시 적중으로 생략한 생성 시간 추정치 (적중마다 평균 생성 시간)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("farmranding.generation.cache.size", this, cache -> cache.size())
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 캐시된 결과를 반환하고, 없으면 생성해 저장
+     * 동시에 같은 입력이 들어오면 먼저 온 요청만 생성하고 나머지는 그 결과를 기다립니다.
+     */
+    public GeneratedBranding getOrGenerate(BrandingProjectCreateRequest request, Supplier<GeneratedBranding> generator) {
+        if (!properties.isEnabled()) {
+            return generator.get();
+        }
+        
+        String key = key(request);
+        GeneratedBranding cached = find(key);
+        if (cached != null) {
+            return cached;
+        }
+        
+        CompletableFuture<GeneratedBranding> flight = new CompletableFuture<>();
+        CompletableFuture<GeneratedBranding> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            sharedHits.increment();
+            savedSeconds.add(generationTimer.mean(TimeUnit.SECONDS));
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        
+        try {
+            misses.increment();
+            GeneratedBranding generated = generationTimer.record(generator);
+            store(key, Objects.requireNonNull(generated));
+            flight.complete(generated);
+            return generated;
+        } catch (RuntimeException e) {
+            // 실패는 캐시하지 않고 같은 시점에 기다리던 요청에만 전달
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+    
+    /**
+     * 캐시된 결과 조회 (없으면 null, 생성하지 않음)
+     */
+    public GeneratedBranding getIfPresent(BrandingProjectCreateRequest request) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        return find(key(request));
+    }
+    
+    /**
+     * 생성 없이 바로 결과를 줄 수 있는 입력인지 확인 (사용량 차감 여부 판단용)
+     * 확인 이후 만료나 LRU 제거로 실제 생성 시 미스가 날 수 있으며, 그 경우 워커가 생성 직전에 사용량을 차감합니다.
+     */
+    public boolean contains(BrandingProjectCreateRequest request) {
+        if (!properties.isEnabled()) {
+            return false;
+        }
+        
+        String key = key(request);
+        synchronized (entries) {
+            CachedResult cached = entries.get(key);
+            if (cached != null && !cached.isExpired(System.currentTimeMillis())) {
+                return true;
+            }
+        }
+        return properties.isPersistent()
+                && cacheEntryRepository.existsByCacheKeyAndExpiresAtAfter(key, LocalDateTime.now());
+    }
+    
+    @Scheduled(cron = "${farmranding.generation.cache.cleanup-cron:0 50 4 * * *}")
+    public void cleanupExpired() {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            entries.values().removeIf(cached -> cached.isExpired(now));
+        }
+        if (properties.isPersistent()) {
+            int deleted = cacheEntryRepository.deleteExpired(LocalDateTime.now());
+            log.info("만료된 브랜딩 생성 캐시 정리 완료: deleted={}", deleted);
+        }
+    }
+    
+    private GeneratedBranding find(String key) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            CachedResult cached = entries.get(key);
+            if (cached != null) {
+                if (!cached.isExpired(now)) {
+                    memoryHits.increment();
+                    savedSeconds.add(generationTimer.mean(TimeUnit.SECONDS));
+                    return cached.result();
+                }
+                entries.remove(key);
+            }
+        }
+        
+        if (!properties.isPersistent()) {
+            return null;
+        }
+        
+        GeneratedBranding stored = cacheEntryRepository.findByCacheKeyAndExpiresAtAfter(key, LocalDateTime.now())
+                .map(entry -> fromPayload(entry.getPayload()))
+                .orElse(null);
+        if (stored != null) {
+            persistentHits.increment();
+            savedSeconds.add(generationTimer.mean(TimeUnit.SECONDS));
+            putInMemory(key, stored, now + properties.getTtl().toMillis());
+        }
+        return stored;
+    }
+    
+    private void store(String key, GeneratedBranding generated) {
+        long expiresAtMillis = System.currentTimeMillis() + properties.getTtl().toMillis();
+        putInMemory(key, generated, expiresAtMillis);
+        
+        if (properties.isPersistent()) {
+            try {
+                cacheEntryRepository.upsert(key, toPayload(generated), LocalDateTime.now().plus(properties.getTtl()));
+            } catch (RuntimeException e) {
+                // 영구 계층 저장 실패는 생성 결과에 영향 없음
+                log.warn("브랜딩 생성 캐시 저장 실패: key={}, error={}", key, e.getMessage());
+            }
+        }
+    }
+    
+    private void putInMemory(String key, GeneratedBranding result, long expiresAtMillis) {
+        synchronized (entries) {
+            entries.put(key, new CachedResult(result, expiresAtMillis));
+        }
+    }
+    
+    private int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+    
+    private double hitRatio() {
+        double hits = memoryHits.sum() + persistentHits.sum() + sharedHits.sum();
+        double total = hits + misses.sum();
+        return total == 0 ? 0 : hits / total;
+    }
+    
+    private String toPayload(GeneratedBranding generated) {
+        try {
+            return objectMapper.writeValueAsString(generated);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("브랜딩 생성 결과 직렬화에 실패했습니다.", e);
+        }
+    }
+    
+    private GeneratedBranding fromPayload(String payload) {
+        try {
+            return objectMapper.readValue(payload, GeneratedBranding.class);
+        } catch (JsonProcessingException e) {
+            log.warn("브랜딩 생성 캐시 역직렬화 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * 정규화한 생성 입력의 SHA-256 (hex)
+     */
+    static String key(BrandingProjectCreateRequest request) {
+        StringBuilder canonical = new StringBuilder(KEY_VERSION)
+                .append(FIELD_SEPARATOR).append(normalize(request.cropName()))
+                .append(FIELD_SEPARATOR).append(normalize(request.variety()))
+                .append(FIELD_SEPARATOR).append(request.grade() == null ? "" : request.grade().name())
+                .append(FIELD_SEPARATOR).append(normalize(request.cultivationMethod()))
+                .append(FIELD_SEPARATOR).append(Boolean.TRUE.equals(request.hasGapCertification()));
+        appendKeywords(canonical, request.brandingKeywords());
+        appendKeywords(canonical, request.cropAppealKeywords());
+        appendKeywords(canonical, request.logoImageKeywords());
+        
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+    
+    private static void appendKeywords(StringBuilder canonical, List<String> keywords) {
+        canonical.append(FIELD_SEPARATOR);
+        if (keywords == null) {
+            return;
+        }
+        
+        TreeSet<String> normalized = new TreeSet<>();
+        for (String keyword : keywords) {
+            String value = KeywordDictionary.normalize(keyword);
+            if (value != null) {
+                normalized.add(value);
+            }
+        }
+        canonical.append(String.join(String.valueOf(VALUE_SEPARATOR), normalized));
+    }
+    
+    private static String normalize(String value) {
+        String normalized = KeywordDictionary.normalize(value);
+        return normalized == null ? "" : normalized;
+    }
+    
+    private record CachedResult(GeneratedBranding result, long expiresAtMillis) {
+        
+        boolean isExpired(long now) {
+            return expiresAtMillis <= now;
+        }
+    }
+}
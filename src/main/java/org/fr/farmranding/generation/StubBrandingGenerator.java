@@ -0,0 +1,76 @@
+package org.fr.farmranding.generation;
+
+import org.fr.farmranding.config.GenerationProperties;
+import org.fr.farmranding.dto.branding.BrandingProjectCreateRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 외부 모델 없이 입력값으로 결과를 만드는 생성기 (로컬 개발, 오프라인 부하 테스트용)
+ * 설정한 지연만큼 대기해 모델 호출 시간을 흉내냅니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "farmranding.generation", name = "generator", havingValue = "stub", matchIfMissing = true)
+public class StubBrandingGenerator implements BrandingGenerator {
+    
+    private final Duration latency;
+    
+    public StubBrandingGenerator(GenerationProperties generationProperties) {
+        this.latency = generationProperties.getStub().getLatency();
+    }
+    
+    @Override
+    public GeneratedBranding generate(BrandingProjectCreateRequest request) {
+        sleep(latency);
+        return build(request);
+    }
+    
+    /**
+     * 어절 단위로 나눠 전체 지연 동안 고르게 전달
+     */
+    @Override
+    public GeneratedBranding generate(BrandingProjectCreateRequest request, CopyDeltaListener listener) {
+        GeneratedBranding generated = build(request);
+        String[] promotionWords = generated.promotionText().split("(?<= )");
+        String[] storyWords = generated.brandStory().split("(?<= )");
+        Duration interval = latency.dividedBy(promotionWords.length + storyWords.length);
+        
+        for (String word : promotionWords) {
+            sleep(interval);
+            listener.onDelta(CopyField.PROMOTION_TEXT, word);
+        }
+        for (String word : storyWords) {
+            sleep(interval);
+            listener.onDelta(CopyField.BRAND_STORY, word);
+        }
+        return generated;
+    }
+    
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("브랜딩 생성이 중단되었습니다.", e);
+        }
+    }
+    
+    private static GeneratedBranding build(BrandingProjectCreateRequest request) {
+        String keyword = first(request.brandingKeywords(), "프리미엄");
+        String appeal = first(request.cropAppealKeywords(), "신선한");
+        return new GeneratedBranding(
+                keyword + " " + request.cropName(),
+                appeal + " " + request.cropName() + ", 오늘 수확해 바로 보내드립니다.",
+                "정성으로 키운 " + request.cropName() + "의 이야기입니다.",
+                String.join(", ", request.brandingKeywords()),
+                null
+        );
+    }
+    
+    private static String first(List<String> values, String fallback) {
+        return values == null || values.isEmpty() ? fallback : values.get(0);
+    }
+}
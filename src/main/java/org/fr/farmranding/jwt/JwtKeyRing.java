@@ -0,0 +1,76 @@
+package org.fr.farmranding.jwt;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.fr.farmranding.config.JwtProperties;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JWT 서명 키 모음
+ * 기동 시 한 번만 키를 만들고, 스레드 안전한 JwtParser를 미리 생성해 재사용합니다.
+ * 토큰 헤더의 kid로 검증 키를 선택하므로 이전 키를 남겨둔 채 무중단으로 시크릿을 교체할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class JwtKeyRing {
+    
+    @Getter
+    private final String activeKeyId;
+    
+    @Getter
+    private final SecretKey activeKey;
+    
+    private final Map<String, SecretKey> verificationKeys;
+    
+    @Getter
+    private final JwtParser parser;
+    
+    public JwtKeyRing(JwtProperties jwtProperties) {
+        this.activeKeyId = jwtProperties.getKeyId();
+        this.activeKey = toKey(jwtProperties.getSecret());
+        
+        Map<String, SecretKey> keys = new LinkedHashMap<>();
+        jwtProperties.getPreviousKeys().forEach((keyId, secret) -> keys.put(keyId, toKey(secret)));
+        keys.put(activeKeyId, activeKey);
+        this.verificationKeys = Map.copyOf(keys);
+        
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return findVerificationKey(header.getKeyId());
+                    }
+                })
+                .build();
+        
+        log.info("JWT 키 초기화 완료: activeKeyId={}, verificationKeys={}", activeKeyId, verificationKeys.keySet());
+    }
+    
+    private SecretKey findVerificationKey(String keyId) {
+        // kid가 없는 토큰은 키 로테이션 도입 이전에 발급된 토큰이므로 현재 키로 검증
+        if (keyId == null) {
+            return activeKey;
+        }
+        SecretKey key = verificationKeys.get(keyId);
+        if (key == null) {
+            throw new UnsupportedJwtException("알 수 없는 서명 키입니다: " + keyId);
+        }
+        return key;
+    }
+    
+    private static SecretKey toKey(String secret) {
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    }
+}
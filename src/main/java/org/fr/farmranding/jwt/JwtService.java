@@ -1,24 +1,52 @@
 package org.fr.farmranding.jwt;
 
-import org.fr.farmranding.entity.user.User;
+import io.jsonwebtoken.Claims;
+import org.fr.farmranding.auth.UserPrincipal;
+
+import java.util.Optional;
 
 public interface JwtService {
     
     /**
      * Access Token 생성
      */
-    String generateAccessToken(User user);
+    String generateAccessToken(UserPrincipal user);
     
     /**
      * Refresh Token 생성
      */
-    String generateRefreshToken(User user);
+    String generateRefreshToken(UserPrincipal user);
+    
+    /**
+     * 기존 토큰 패밀리를 이어가는 Refresh Token 생성 (토큰 회전용)
+     */
+    String generateRefreshToken(UserPrincipal user, String familyId);
+    
+    /**
+     * Refresh Token 검증 후 회전에 필요한 클레임 반환 (실패 시 BusinessException)
+     */
+    RefreshTokenClaims parseRefreshToken(String token);
+    
+    /**
+     * 서명 검증과 파싱을 한 번에 수행하고 검증된 클레임 반환
+     */
+    Claims getVerifiedClaims(String token);
     
     /**
      * 토큰에서 사용자 ID 추출
      */
     Long getUserIdFromToken(String token);
     
+    /**
+     * 토큰 클레임으로 인증 사용자 스냅샷 생성 (DB 조회 없음, 유효하지 않으면 empty)
+     */
+    Optional<UserPrincipal> resolvePrincipal(String token);
+    
+    /**
+     * 토큰 검증 (실패 시 예외 대신 상태를 담은 결과 반환)
+     */
+    TokenValidationResult validateToken(String token);
+    
     /**
      * 토큰 유효성 검증
      */
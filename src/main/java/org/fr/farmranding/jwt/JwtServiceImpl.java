@@ -1,110 +1,218 @@
 package org.fr.farmranding.jwt;
 
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.fr.farmranding.auth.UserPrincipal;
 import org.fr.farmranding.common.code.FarmrandingResponseCode;
 import org.fr.farmranding.common.exception.BusinessException;
 import org.fr.farmranding.config.JwtProperties;
-import org.fr.farmranding.entity.user.User;
+import org.fr.farmranding.entity.user.MembershipType;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class JwtServiceImpl implements JwtService {
     
+    private static final int MAX_TOKEN_LENGTH = 8192;
+    private static final String TOKEN_TYPE_CLAIM = "type";
+    private static final String FAMILY_ID_CLAIM = "fid";
+    private static final String ACCESS_TOKEN_TYPE = "access";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+    
     private final JwtProperties jwtProperties;
+    private final JwtKeyRing jwtKeyRing;
+    private final VerifiedTokenCache verifiedTokenCache;
     
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+    @Override
+    public String generateAccessToken(UserPrincipal user) {
+        return createToken(user, jwtProperties.getAccessTokenExpiration())
+                .claim(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE)
+                .compact();
     }
     
     @Override
-    public String generateAccessToken(User user) {
-        return createToken(user, jwtProperties.getAccessTokenExpiration());
+    public String generateRefreshToken(UserPrincipal user) {
+        return generateRefreshToken(user, UUID.randomUUID().toString());
     }
     
     @Override
-    public String generateRefreshToken(User user) {
-        return createToken(user, jwtProperties.getRefreshTokenExpiration());
+    public String generateRefreshToken(UserPrincipal user, String familyId) {
+        return createToken(user, jwtProperties.getRefreshTokenExpiration())
+                .id(UUID.randomUUID().toString())
+                .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
+                .claim(FAMILY_ID_CLAIM, familyId)
+                .compact();
     }
     
-    private String createToken(User user, long expiration) {
+    private JwtBuilder createToken(UserPrincipal user, long expiration) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
         
         return Jwts.builder()
+                .header().keyId(jwtKeyRing.getActiveKeyId()).and()
                 .subject(user.getId().toString())
                 .claim("email", user.getEmail())
                 .claim("name", user.getName())
                 .claim("membershipType", user.getMembershipType().name())
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
-                .compact();
+                .signWith(jwtKeyRing.getActiveKey());
+    }
+    
+    @Override
+    public RefreshTokenClaims parseRefreshToken(String token) {
+        Claims claims = getVerifiedClaims(token);
+        String familyId = claims.get(FAMILY_ID_CLAIM, String.class);
+        if (!REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class))
+                || claims.getId() == null || familyId == null) {
+            throw BusinessException.expected(FarmrandingResponseCode.INVALID_TOKEN);
+        }
+        
+        return new RefreshTokenClaims(
+                claims.getId(),
+                familyId,
+                parseUserId(claims),
+                claims.getExpiration().toInstant()
+        );
     }
     
     @Override
     public Long getUserIdFromToken(String token) {
+        return parseUserId(getVerifiedClaims(token));
+    }
+    
+    private static Long parseUserId(Claims claims) {
         try {
-            Claims claims = parseToken(token);
             return Long.parseLong(claims.getSubject());
-        } catch (Exception e) {
-            log.error("토큰에서 사용자 ID 추출 실패: {}", e.getMessage());
-            throw new BusinessException(FarmrandingResponseCode.INVALID_TOKEN);
+        } catch (NumberFormatException e) {
+            throw BusinessException.expected(FarmrandingResponseCode.INVALID_TOKEN);
         }
     }
     
     @Override
-    public boolean isTokenValid(String token) {
+    public Optional<UserPrincipal> resolvePrincipal(String token) {
+        // 이미 검증된 토큰이면 서명 검증과 파싱 생략
+        UserPrincipal cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        
+        TokenValidationResult result = validateToken(token);
+        if (!result.isValid()) {
+            return Optional.empty();
+        }
+        
+        Claims claims = result.claims();
+        // 리프레시 토큰으로는 API 인증 불가
+        if (REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class))) {
+            return Optional.empty();
+        }
+        
+        UserPrincipal principal = toPrincipal(claims);
+        if (principal == null) {
+            return Optional.empty();
+        }
+        verifiedTokenCache.put(token, principal, claims.getExpiration().getTime());
+        return Optional.of(principal);
+    }
+    
+    /**
+     * 서명은 유효하지만 클레임이 현재 코드와 맞지 않는 토큰(없는 멤버십 타입, 숫자가 아닌 sub 등)은 null
+     */
+    private UserPrincipal toPrincipal(Claims claims) {
         try {
-            parseToken(token);
-            return true;
-        } catch (Exception e) {
-            log.debug("토큰 검증 실패: {}", e.getMessage());
-            return false;
+            String subject = claims.getSubject();
+            String membershipType = claims.get("membershipType", String.class);
+            if (subject == null || membershipType == null || claims.getExpiration() == null) {
+                log.debug("필수 클레임이 없는 토큰");
+                return null;
+            }
+            
+            return new UserPrincipal(
+                    Long.parseLong(subject),
+                    claims.get("email", String.class),
+                    claims.get("name", String.class),
+                    MembershipType.valueOf(membershipType)
+            );
+        } catch (IllegalArgumentException | RequiredTypeException e) {
+            // NumberFormatException(sub), 없는 enum 값, 타입이 다른 클레임
+            log.debug("클레임 변환 실패: {}", e.getMessage());
+            return null;
         }
     }
     
+    @Override
+    public boolean isTokenValid(String token) {
+        return validateToken(token).isValid();
+    }
+    
     @Override
     public boolean isTokenExpired(String token) {
-        try {
-            Claims claims = parseToken(token);
-            return claims.getExpiration().before(new Date());
-        } catch (Exception e) {
-            log.debug("토큰 만료 확인 실패: {}", e.getMessage());
-            return true;
+        // 검증에 실패한 토큰은 만료된 것으로 취급 (만료 토큰은 파서가 EXPIRED로 거부)
+        return !validateToken(token).isValid();
+    }
+    
+    @Override
+    public Claims getVerifiedClaims(String token) {
+        TokenValidationResult result = validateToken(token);
+        if (!result.isValid()) {
+            throw BusinessException.expected(result.status().getResponseCode());
         }
+        return result.claims();
     }
     
-    private Claims parseToken(String token) {
+    @Override
+    public TokenValidationResult validateToken(String token) {
+        // 형식이 맞지 않는 토큰은 파서까지 가지 않고 바로 거부
+        if (!hasCompactJwsShape(token)) {
+            return TokenValidationResult.invalid();
+        }
+        
         try {
-            return Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
+            Claims claims = jwtKeyRing.getParser()
                     .parseSignedClaims(token)
                     .getPayload();
+            return TokenValidationResult.valid(claims);
         } catch (ExpiredJwtException e) {
             log.debug("만료된 토큰: {}", e.getMessage());
-            throw new BusinessException(FarmrandingResponseCode.TOKEN_EXPIRED);
-        } catch (UnsupportedJwtException e) {
-            log.error("지원되지 않는 토큰: {}", e.getMessage());
-            throw new BusinessException(FarmrandingResponseCode.INVALID_TOKEN);
-        } catch (MalformedJwtException e) {
-            log.error("잘못된 토큰 형식: {}", e.getMessage());
-            throw new BusinessException(FarmrandingResponseCode.INVALID_TOKEN);
-        } catch (IllegalArgumentException e) {
-            log.error("토큰이 비어있음: {}", e.getMessage());
-            throw new BusinessException(FarmrandingResponseCode.INVALID_TOKEN);
-        } catch (Exception e) {
-            log.error("토큰 파싱 오류: {}", e.getMessage());
-            throw new BusinessException(FarmrandingResponseCode.INVALID_TOKEN);
+            return TokenValidationResult.expired();
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("토큰 검증 실패: {}", e.getMessage());
+            return TokenValidationResult.invalid();
+        }
+    }
+    
+    /**
+     * header.payload.signature 형태의 base64url 문자열인지 확인
+     */
+    private boolean hasCompactJwsShape(String token) {
+        if (token == null || token.isEmpty() || token.length() > MAX_TOKEN_LENGTH) {
+            return false;
+        }
+        
+        int dots = 0;
+        int segmentLength = 0;
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                if (segmentLength == 0) {
+                    return false;
+                }
+                dots++;
+                segmentLength = 0;
+            } else if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_') {
+                segmentLength++;
+            } else {
+                return false;
+            }
         }
+        return dots == 2 && segmentLength > 0;
     }
-} 
\ No newline at end of file
+}
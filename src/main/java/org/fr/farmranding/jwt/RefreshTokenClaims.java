@@ -0,0 +1,18 @@
+package org.fr.farmranding.jwt;
+
+import java.time.Instant;
+
+/**
+ * 검증된 리프레시 토큰 클레임
+ *
+ * @param tokenId   토큰 고유 ID (jti)
+ * @param familyId  최초 로그인부터 회전으로 이어지는 토큰 패밀리 ID
+ * @param userId    사용자 ID
+ * @param expiresAt 만료 시각
+ */
+public record RefreshTokenClaims(
+        String tokenId,
+        String familyId,
+        Long userId,
+        Instant expiresAt
+) {}
@@ -0,0 +1,209 @@
+package org.fr.farmranding.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.fr.farmranding.config.JwtProperties;
+import org.fr.farmranding.repository.RevokedTokenRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 리프레시 토큰 폐기 저장소
+ * revoked_tokens 테이블이 원본이며, 사용된 토큰의 jti와 폐기된 토큰 패밀리("family:{id}")를 함께 기록합니다.
+ * 갱신 요청마다 조회하는 것은 패밀리 폐기 여부뿐이므로, 메모리의 블룸 필터에는 패밀리 폐기만 담아
+ * "폐기되지 않음"을 DB 조회 없이 판정하고 "폐기되었을 수 있음"인 경우에만 DB를 확인합니다.
+ * jti 재사용은 unique 제약의 삽입 실패로만 판정하므로 필터에 넣지 않습니다.
+ * 다른 노드에서 폐기된 패밀리는 주기적 동기화로 반영되므로 최대 동기화 주기만큼 늦게 반영될 수 있습니다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationStore {
+
+    private static final String FAMILY_PREFIX = "family:";
+    private static final long SYNC_OVERLAP_SECONDS = 5;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter bloomFilter;
+    private volatile boolean loaded;
+    private volatile LocalDateTime lastSyncedAt;
+
+    public TokenRevocationStore(RevokedTokenRepository revokedTokenRepository,
+                                JdbcTemplate jdbcTemplate,
+                                JwtProperties jwtProperties) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.expectedInsertions = jwtProperties.getRevocation().getExpectedInsertions();
+        this.falsePositiveRate = jwtProperties.getRevocation().getFalsePositiveRate();
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * 토큰 패밀리 폐기 여부 확인
+     */
+    public boolean isFamilyRevoked(String familyId) {
+        String tokenId = FAMILY_PREFIX + familyId;
+        // 기동 직후 필터가 채워지기 전에는 DB로 확인
+        if (loaded && !bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+        return revokedTokenRepository.existsByTokenId(tokenId);
+    }
+
+    /**
+     * 사용된 토큰 기록
+     * 이미 사용된 토큰이면 false를 반환합니다. (unique 제약으로 동시 요청 중 하나만 성공)
+     */
+    public boolean markUsed(String tokenId, Long userId, Instant expiresAt) {
+        if (!insert(tokenId, userId, expiresAt)) {
+            log.debug("이미 사용된 토큰: tokenId={}", tokenId);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 토큰 패밀리 폐기 기록 (이미 폐기된 패밀리면 무시)
+     */
+    public void revokeFamily(String familyId, Long userId, Instant expiresAt) {
+        String tokenId = FAMILY_PREFIX + familyId;
+        insert(tokenId, userId, expiresAt);
+        bloomFilter.put(tokenId);
+    }
+
+    private boolean insert(String tokenId, Long userId, Instant expiresAt) {
+        try {
+            revokedTokenRepository.insert(tokenId, userId, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 만료되지 않은 패밀리 폐기 기록으로 블룸 필터를 다시 구성
+     * 블룸 필터는 삭제를 지원하지 않으므로 만료 기록 정리 후 주기적으로 새로 만듭니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime now = databaseNow();
+        List<String> tokenIds = revokedTokenRepository.findActiveTokenIdsByPrefix(FAMILY_PREFIX, now);
+
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, tokenIds.size()), falsePositiveRate);
+        tokenIds.forEach(rebuilt::put);
+
+        this.bloomFilter = rebuilt;
+        this.lastSyncedAt = now;
+        this.loaded = true;
+
+        // 재구성 중 다른 요청에서 추가된 항목 반영
+        syncRecentRevocations();
+        log.info("폐기 토큰 패밀리 블룸 필터 구성 완료: count={}", tokenIds.size());
+    }
+
+    /**
+     * 다른 노드에서 추가된 패밀리 폐기 기록 반영
+     * 기록 시각과 조회 구간 모두 DB 시계 기준이므로 노드 간 시계 차이가 있어도 기록을 놓치지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${farmranding.jwt.revocation.sync-interval-ms:5000}")
+    public void syncRecentRevocations() {
+        if (!loaded) {
+            return;
+        }
+
+        LocalDateTime now = databaseNow();
+        // 커밋 지연을 고려해 이전 동기화 시점보다 조금 앞에서부터 조회
+        LocalDateTime since = lastSyncedAt.minusSeconds(SYNC_OVERLAP_SECONDS);
+        revokedTokenRepository.findActiveTokenIdsByPrefixCreatedSince(FAMILY_PREFIX, since, now)
+                .forEach(bloomFilter::put);
+        lastSyncedAt = now;
+    }
+
+    /**
+     * 만료된 폐기 기록 정리 후 필터 재구성
+     */
+    @Scheduled(cron = "${farmranding.jwt.revocation.cleanup-cron:0 30 4 * * *}")
+    public void cleanupExpired() {
+        int deleted = revokedTokenRepository.deleteExpired(databaseNow());
+        log.info("만료된 폐기 토큰 정리 완료: deleted={}", deleted);
+        rebuild();
+    }
+
+    private LocalDateTime databaseNow() {
+        return jdbcTemplate.queryForObject("SELECT NOW(6)", Timestamp.class).toLocalDateTime();
+    }
+
+    /**
+     * 문자열 전용 블룸 필터 (lock-free 비트 배열)
+     */
+    private static final class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final long bitSize;
+        private final int hashCount;
+
+        BloomFilter(int expectedInsertions, double falsePositiveRate) {
+            long size = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bitSize = Math.max(64, size);
+            this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+            this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+        }
+
+        void put(String value) {
+            long hash = hash(value);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = Math.floorMod(h1 + (long) i * h2, bitSize);
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long current;
+                do {
+                    current = bits.get(word);
+                    if ((current & mask) != 0) {
+                        break;
+                    }
+                } while (!bits.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        boolean mightContain(String value) {
+            long hash = hash(value);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = Math.floorMod(h1 + (long) i * h2, bitSize);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // FNV-1a 64bit 후 비트 혼합
+        private static long hash(String value) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+}
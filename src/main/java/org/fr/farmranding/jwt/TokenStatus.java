@@ -0,0 +1,18 @@
+package org.fr.farmranding.jwt;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.fr.farmranding.common.code.FarmrandingResponseCode;
+
+/**
+ * 토큰 검증 결과 상태
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TokenStatus {
+    VALID(FarmrandingResponseCode.SUCCESS),
+    EXPIRED(FarmrandingResponseCode.TOKEN_EXPIRED),
+    INVALID(FarmrandingResponseCode.INVALID_TOKEN);
+    
+    private final FarmrandingResponseCode responseCode;
+}
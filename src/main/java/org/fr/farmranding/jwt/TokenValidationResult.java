@@ -0,0 +1,31 @@
+package org.fr.farmranding.jwt;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * 토큰 검증 결과
+ * 검증 실패를 예외 대신 값으로 전달해 잘못된 토큰이 많이 들어와도 스택 트레이스 생성 비용이 들지 않도록 합니다.
+ */
+public record TokenValidationResult(
+        TokenStatus status,
+        Claims claims
+) {
+    private static final TokenValidationResult EXPIRED = new TokenValidationResult(TokenStatus.EXPIRED, null);
+    private static final TokenValidationResult INVALID = new TokenValidationResult(TokenStatus.INVALID, null);
+    
+    public static TokenValidationResult valid(Claims claims) {
+        return new TokenValidationResult(TokenStatus.VALID, claims);
+    }
+    
+    public static TokenValidationResult expired() {
+        return EXPIRED;
+    }
+    
+    public static TokenValidationResult invalid() {
+        return INVALID;
+    }
+    
+    public boolean isValid() {
+        return status == TokenStatus.VALID;
+    }
+}
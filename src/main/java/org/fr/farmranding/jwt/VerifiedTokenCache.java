@@ -0,0 +1,136 @@
+package org.fr.farmranding.jwt;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.fr.farmranding.auth.UserPrincipal;
+import org.fr.farmranding.config.JwtProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 서명 검증이 끝난 토큰 캐시
+ * 같은 access token이 반복 요청될 때 HMAC 검증과 JSON 파싱을 건너뛰기 위해 사용합니다.
+ * 토큰 원문 대신 SHA-256 다이제스트를 키로 쓰고, 각 항목은 토큰의 exp까지만 유효합니다.
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+    
+    private final boolean enabled;
+    private final int maxSize;
+    private final Map<String, CachedPrincipal> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    
+    public VerifiedTokenCache(JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+        this.enabled = jwtProperties.getCache().isEnabled();
+        this.maxSize = jwtProperties.getCache().getMaxSize();
+        
+        FunctionCounter.builder("farmranding.jwt.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("farmranding.jwt.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("farmranding.jwt.cache.evictions", evictions, LongAdder::sum)
+                .register(meterRegistry);
+        Gauge.builder("farmranding.jwt.cache.size", entries, Map::size)
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 캐시된 principal 조회 (없거나 만료되었으면 null)
+     */
+    public UserPrincipal get(String token) {
+        if (!enabled) {
+            return null;
+        }
+        
+        String key = digest(token);
+        CachedPrincipal cached = entries.get(key);
+        if (cached == null) {
+            misses.increment();
+            return null;
+        }
+        if (cached.isExpired(System.currentTimeMillis())) {
+            entries.remove(key, cached);
+            misses.increment();
+            return null;
+        }
+        
+        hits.increment();
+        return cached.principal();
+    }
+    
+    /**
+     * 검증된 토큰의 principal을 exp까지 보관
+     */
+    public void put(String token, UserPrincipal principal, long expiresAtMillis) {
+        if (!enabled) {
+            return;
+        }
+        
+        if (entries.size() >= maxSize) {
+            evict();
+        }
+        entries.put(digest(token), new CachedPrincipal(principal, expiresAtMillis));
+    }
+    
+    /**
+     * 만료 항목을 먼저 정리하고, 그래도 가득 차 있으면 임의 항목을 10% 제거
+     * 한 번에 한 스레드만 정리하고 나머지 스레드는 기다리지 않고 넘어갑니다.
+     */
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        
+        try {
+            long now = System.currentTimeMillis();
+            int before = entries.size();
+            entries.values().removeIf(cached -> cached.isExpired(now));
+            
+            int overflow = entries.size() - (maxSize - Math.max(1, maxSize / 10));
+            Iterator<String> iterator = entries.keySet().iterator();
+            while (overflow-- > 0 && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+            
+            evictions.add(Math.max(0, before - entries.size()));
+        } finally {
+            evicting.set(false);
+        }
+    }
+    
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+    
+    private record CachedPrincipal(UserPrincipal principal, long expiresAtMillis) {
+        
+        boolean isExpired(long now) {
+            return expiresAtMillis <= now;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package org.fr.farmranding.ratelimit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.fr.farmranding.auth.UserPrincipal;
+import org.fr.farmranding.common.code.FarmrandingResponseCode;
+import org.fr.farmranding.common.dto.FarmrandingResponseBody;
+import org.fr.farmranding.config.RateLimitProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용자/멤버십별 토큰 버킷 요청 속도 제한
+ * JwtAuthenticationFilter 다음에 실행되어 인증된 사용자 ID로 버킷을 찾습니다.
+ * 버킷은 ConcurrentHashMap에 두고, 가득 찬(= 한동안 요청이 없던) 버킷은 주기적인 정리 작업에서만 제거합니다.
+ * 버킷 수는 생성 전에 자리를 먼저 확보해 동시에 생성되어도 최대 개수를 넘지 않으며,
+ * 자리가 없으면 규칙/멤버십별 공용 버킷으로 제한해 요청 스레드에서 정리 작업을 하지 않습니다.
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+    
+    private final RateLimitProperties properties;
+    private final List<CompiledRule> rules;
+    private final byte[] rejectedBody;
+    
+    private final ConcurrentHashMap<BucketKey, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicInteger bucketCount = new AtomicInteger();
+    // 최대 개수에 도달했을 때 새 사용자가 함께 쓰는 버킷 (규칙 수 x 멤버십 수 이하)
+    private final ConcurrentHashMap<BucketKey, TokenBucket> overflowBuckets = new ConcurrentHashMap<>();
+    private final Counter overflowed;
+    
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry) throws JsonProcessingException {
+        this.properties = properties;
+        this.rejectedBody = objectMapper.writeValueAsBytes(
+                FarmrandingResponseBody.of(FarmrandingResponseCode.RATE_LIMIT_EXCEEDED));
+        
+        List<CompiledRule> compiledRules = new ArrayList<>();
+        for (RateLimitProperties.Rule rule : properties.getRules()) {
+            compiledRules.add(new CompiledRule(
+                    compiledRules.size(),
+                    rule,
+                    rule.getPaths().stream().map(PathPatternParser.defaultInstance::parse).toList(),
+                    Counter.builder("farmranding.ratelimit.rejected")
+                            .tag("rule", rule.getName())
+                            .register(meterRegistry)));
+        }
+        this.rules = List.copyOf(compiledRules);
+        this.overflowed = Counter.builder("farmranding.ratelimit.overflow")
+                .description("버킷 최대 개수에 도달해 공용 버킷으로 제한한 요청 수")
+                .register(meterRegistry);
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || rules.isEmpty();
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        // 인증되지 않은 요청은 이후 인증 단계에서 거부됨
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserPrincipal principal)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        
+        CompiledRule rule = findRule(request);
+        RateLimitProperties.Limit limit = rule == null ? null : rule.rule().getLimits().get(principal.getMembershipType());
+        if (limit == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        
+        long now = System.nanoTime();
+        BucketKey key = new BucketKey(principal.getId(), rule.index(), principal.getMembershipType().ordinal());
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = createBucket(key, limit, now);
+        }
+        
+        long waitNanos = bucket.tryConsume(now);
+        if (waitNanos > 0) {
+            reject(response, rule, waitNanos);
+            log.debug("요청 속도 제한: userId={}, rule={}", principal.getId(), rule.rule().getName());
+            return;
+        }
+        
+        filterChain.doFilter(request, response);
+    }
+    
+    /**
+     * 가득 찬 버킷 제거 (새로 만든 버킷과 같은 상태이므로 제한이 풀리지 않음)
+     */
+    @Scheduled(fixedDelayString = "${farmranding.rate-limit.eviction-interval:PT1M}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        buckets.forEach((key, bucket) -> {
+            if (bucket.isFull(now) && buckets.remove(key, bucket)) {
+                bucketCount.decrementAndGet();
+            }
+        });
+    }
+    
+    /**
+     * 자리를 먼저 확보한 뒤 버킷 생성 (자리가 없으면 공용 버킷 사용)
+     */
+    private TokenBucket createBucket(BucketKey key, RateLimitProperties.Limit limit, long now) {
+        if (bucketCount.incrementAndGet() > properties.getMaxBuckets()) {
+            bucketCount.decrementAndGet();
+            overflowed.increment();
+            return overflowBuckets.computeIfAbsent(new BucketKey(null, key.ruleIndex(), key.membershipOrdinal()),
+                    k -> new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), now));
+        }
+        
+        TokenBucket created = new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), now);
+        TokenBucket existing = buckets.putIfAbsent(key, created);
+        if (existing != null) {
+            // 다른 요청이 먼저 만들었으면 확보한 자리 반환
+            bucketCount.decrementAndGet();
+            return existing;
+        }
+        return created;
+    }
+    
+    private CompiledRule findRule(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (CompiledRule rule : rules) {
+            for (PathPattern pattern : rule.patterns()) {
+                if (pattern.matches(path)) {
+                    return rule;
+                }
+            }
+        }
+        return null;
+    }
+    
+    private void reject(HttpServletResponse response, CompiledRule rule, long waitNanos) throws IOException {
+        rule.rejected().increment();
+        
+        // 다음 토큰까지 남은 시간을 초 단위로 올림
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setStatus(FarmrandingResponseCode.RATE_LIMIT_EXCEEDED.getHttpStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType("application/json;charset=UTF-8");
+        response.setContentLength(rejectedBody.length);
+        response.getOutputStream().write(rejectedBody);
+    }
+    
+    private record BucketKey(Long userId, int ruleIndex, int membershipOrdinal) {}
+    
+    private record CompiledRule(int index, RateLimitProperties.Rule rule, List<PathPattern> patterns, Counter rejected) {}
+}
@@ -0,0 +1,54 @@
+package org.fr.farmranding.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * lock-free 토큰 버킷
+ * 토큰 수와 마지막 충전 시각을 불변 상태로 묶어 CAS로 교체합니다.
+ */
+final class TokenBucket {
+    
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    
+    private final int capacity;
+    private final double refillPerNano;
+    private final AtomicReference<State> state;
+    
+    TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / NANOS_PER_SECOND;
+        this.state = new AtomicReference<>(new State(capacity, nowNanos));
+    }
+    
+    /**
+     * 토큰 1개 사용 시도
+     *
+     * @return 허용 시 0, 거부 시 다음 토큰까지 남은 나노초
+     */
+    long tryConsume(long nowNanos) {
+        while (true) {
+            State current = state.get();
+            double tokens = refill(current, nowNanos);
+            if (tokens < 1) {
+                return (long) Math.ceil((1 - tokens) / refillPerNano);
+            }
+            if (state.compareAndSet(current, new State(tokens - 1, nowNanos))) {
+                return 0;
+            }
+        }
+    }
+    
+    /**
+     * 가득 찬 버킷은 새로 만든 버킷과 같으므로 제거해도 제한 상태를 잃지 않음
+     */
+    boolean isFull(long nowNanos) {
+        return refill(state.get(), nowNanos) >= capacity;
+    }
+    
+    private double refill(State current, long nowNanos) {
+        long elapsed = Math.max(0, nowNanos - current.updatedAtNanos());
+        return Math.min(capacity, current.tokens() + elapsed * refillPerNano);
+    }
+    
+    private record State(double tokens, long updatedAtNanos) {}
+}
@@ -0,0 +1,95 @@
+package org.fr.farmranding.repository;
+
+import org.fr.farmranding.entity.branding.BrandingGenerationJob;
+import org.fr.farmranding.entity.branding.GenerationJobStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BrandingGenerationJobRepository extends JpaRepository<BrandingGenerationJob, Long> {
+    
+    Optional<BrandingGenerationJob> findByIdAndUserId(Long id, Long userId);
+    
+    long countByUserIdAndStatusIn(Long userId, Collection<GenerationJobStatus> statuses);
+    
+    @Query("SELECT j.id FROM BrandingGenerationJob j WHERE j.status = :status ORDER BY j.id")
+    List<Long> findIdsByStatus(@Param("status") GenerationJobStatus status, Pageable pageable);
+    
+    /**
+     * 대기 작업 선점 (다른 스레드/노드가 먼저 가져갔으면 0)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BrandingGenerationJob j SET j.status = :running, j.attempts = j.attempts + 1, " +
+           "j.startedAt = :now, j.updatedAt = :now WHERE j.id = :id AND j.status = :queued")
+    int claim(@Param("id") Long id,
+              @Param("now") LocalDateTime now,
+              @Param("queued") GenerationJobStatus queued,
+              @Param("running") GenerationJobStatus running);
+    
+    /**
+     * 실행 중 작업 완료 처리 (결과 프로젝트 저장과 같은 트랜잭션에서 호출)
+     * 완료/실패/재시도 전환은 선점 시점의 실행 횟수가 그대로일 때만 적용 (재시도된 작업의 이전 실행이 덮어쓰지 않음)
+     */
+    @Modifying
+    @Query("UPDATE BrandingGenerationJob j SET j.status = :succeeded, j.projectId = :projectId, " +
+           "j.finishedAt = :now, j.updatedAt = :now WHERE j.id = :id AND j.status = :running AND j.attempts = :attempt")
+    int complete(@Param("id") Long id,
+                 @Param("attempt") int attempt,
+                 @Param("projectId") Long projectId,
+                 @Param("now") LocalDateTime now,
+                 @Param("running") GenerationJobStatus running,
+                 @Param("succeeded") GenerationJobStatus succeeded);
+    
+    @Transactional
+    @Modifying
+    @Query("UPDATE BrandingGenerationJob j SET j.status = :failed, j.errorMessage = :errorMessage, " +
+           "j.finishedAt = :now, j.updatedAt = :now WHERE j.id = :id AND j.status = :running AND j.attempts = :attempt")
+    int fail(@Param("id") Long id,
+             @Param("attempt") int attempt,
+             @Param("errorMessage") String errorMessage,
+             @Param("now") LocalDateTime now,
+             @Param("running") GenerationJobStatus running,
+             @Param("failed") GenerationJobStatus failed);
+    
+    /**
+     * 워커가 생성 직전에 차감한 사용량 구간 기록 (접수 때 차감하지 않은 작업만)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BrandingGenerationJob j SET j.usageBucketIndex = :bucketIndex, j.updatedAt = :now " +
+           "WHERE j.id = :id AND j.status = :running AND j.attempts = :attempt AND j.usageBucketIndex IS NULL")
+    int assignUsageBucket(@Param("id") Long id,
+                          @Param("attempt") int attempt,
+                          @Param("bucketIndex") long bucketIndex,
+                          @Param("now") LocalDateTime now,
+                          @Param("running") GenerationJobStatus running);
+    
+    /**
+     * 실행 노드가 멈춰 오래 RUNNING에 머문 작업
+     */
+    @Query("SELECT j FROM BrandingGenerationJob j WHERE j.status = :running AND j.startedAt < :before")
+    List<BrandingGenerationJob> findStale(@Param("before") LocalDateTime before,
+                                          @Param("running") GenerationJobStatus running);
+    
+    @Transactional
+    @Modifying
+    @Query("UPDATE BrandingGenerationJob j SET j.status = :queued, j.updatedAt = :now " +
+           "WHERE j.id = :id AND j.status = :running AND j.attempts = :attempt AND j.startedAt < :before")
+    int requeue(@Param("id") Long id,
+                @Param("attempt") int attempt,
+                @Param("before") LocalDateTime before,
+                @Param("now") LocalDateTime now,
+                @Param("running") GenerationJobStatus running,
+                @Param("queued") GenerationJobStatus queued);
+}
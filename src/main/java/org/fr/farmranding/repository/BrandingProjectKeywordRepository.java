@@ -0,0 +1,16 @@
+package org.fr.farmranding.repository;
+
+import org.fr.farmranding.entity.branding.BrandingProjectKeyword;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BrandingProjectKeywordRepository extends JpaRepository<BrandingProjectKeyword, Long> {
+    
+    @Modifying
+    @Query("DELETE FROM BrandingProjectKeyword k WHERE k.projectId = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+}
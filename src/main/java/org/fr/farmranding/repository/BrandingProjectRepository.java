@@ -1,16 +1,21 @@
 package org.fr.farmranding.repository;
 
+import jakarta.persistence.LockModeType;
+import org.fr.farmranding.dto.branding.BrandingProjectSummaryResponse;
 import org.fr.farmranding.entity.branding.BrandingProject;
 
 import org.fr.farmranding.entity.branding.Grade;
+import org.fr.farmranding.entity.branding.KeywordKind;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,12 +26,6 @@ public interface BrandingProjectRepository extends JpaRepository<BrandingProject
 
     Page<BrandingProject> findByUserId(Long userId, Pageable pageable);
 
-    @Query("SELECT bp FROM BrandingProject bp WHERE bp.user.id = :userId AND bp.title LIKE %:keyword%")
-    List<BrandingProject> findByUserIdAndTitleContaining(@Param("userId") Long userId, @Param("keyword") String keyword);
-    
-    @Query("SELECT bp FROM BrandingProject bp WHERE bp.user.id = :userId AND bp.cropName LIKE %:cropName%")
-    List<BrandingProject> findByUserIdAndCropNameContaining(@Param("userId") Long userId, @Param("cropName") String cropName);
-    
     @Query("SELECT bp FROM BrandingProject bp WHERE bp.user.id = :userId AND bp.grade = :grade")
     List<BrandingProject> findByUserIdAndGrade(@Param("userId") Long userId, @Param("grade") Grade grade);
     
@@ -41,7 +40,95 @@ public interface BrandingProjectRepository extends JpaRepository<BrandingProject
     
     Optional<BrandingProject> findByIdAndUserId(Long id, Long userId);
     
+    /**
+     * 목록용 요약 조회 (요약 컬럼만 선택, 최근 수정 순)
+     */
+    @Query("SELECT new org.fr.farmranding.dto.branding.BrandingProjectSummaryResponse(" +
+           "bp.id, bp.title, bp.cropName, bp.grade, bp.updatedAt) " +
+           "FROM BrandingProject bp WHERE bp.user.id = :userId ORDER BY bp.updatedAt DESC, bp.id DESC")
+    List<BrandingProjectSummaryResponse> findSummariesByUserId(@Param("userId") Long userId);
+    
+    /**
+     * 키셋 페이지 첫 페이지 (최근 수정 순)
+     */
+    @Query("SELECT new org.fr.farmranding.dto.branding.BrandingProjectSummaryResponse(" +
+           "bp.id, bp.title, bp.cropName, bp.grade, bp.updatedAt) " +
+           "FROM BrandingProject bp WHERE bp.user.id = :userId ORDER BY bp.updatedAt DESC, bp.id DESC")
+    List<BrandingProjectSummaryResponse> findFirstPageByUserId(@Param("userId") Long userId, Pageable pageable);
+    
+    /**
+     * 키셋 페이지 다음 페이지: 커서 (updatedAt, id)보다 뒤에 오는 항목만 인덱스로 조회 (OFFSET 없음)
+     */
+    @Query("SELECT new org.fr.farmranding.dto.branding.BrandingProjectSummaryResponse(" +
+           "bp.id, bp.title, bp.cropName, bp.grade, bp.updatedAt) " +
+           "FROM BrandingProject bp WHERE bp.user.id = :userId " +
+           "AND (bp.updatedAt < :updatedAt OR (bp.updatedAt = :updatedAt AND bp.id < :id)) " +
+           "ORDER BY bp.updatedAt DESC, bp.id DESC")
+    List<BrandingProjectSummaryResponse> findPageByUserIdAfter(@Param("userId") Long userId,
+                                                               @Param("updatedAt") LocalDateTime updatedAt,
+                                                               @Param("id") Long id,
+                                                               Pageable pageable);
+    
+    /**
+     * 키워드 중 하나라도 가진 프로젝트 (역색인 (user_id, keyword_id) 인덱스 범위 조회)
+     */
+    @Query("SELECT new org.fr.farmranding.dto.branding.BrandingProjectSummaryResponse(" +
+           "bp.id, bp.title, bp.cropName, bp.grade, bp.updatedAt) " +
+           "FROM BrandingProject bp WHERE bp.user.id = :userId AND bp.id IN (" +
+           "SELECT k.projectId FROM BrandingProjectKeyword k " +
+           "WHERE k.userId = :userId AND k.keywordId IN :keywordIds AND k.kind IN :kinds) " +
+           "ORDER BY bp.updatedAt DESC, bp.id DESC")
+    List<BrandingProjectSummaryResponse> findSummariesByAnyKeyword(@Param("userId") Long userId,
+                                                                   @Param("keywordIds") Collection<Long> keywordIds,
+                                                                   @Param("kinds") Collection<KeywordKind> kinds,
+                                                                   Pageable pageable);
+    
+    /**
+     * 키워드를 모두 가진 프로젝트
+     */
+    @Query("SELECT new org.fr.farmranding.dto.branding.BrandingProjectSummaryResponse(" +
+           "bp.id, bp.title, bp.cropName, bp.grade, bp.updatedAt) " +
+           "FROM BrandingProject bp WHERE bp.user.id = :userId AND bp.id IN (" +
+           "SELECT k.projectId FROM BrandingProjectKeyword k " +
+           "WHERE k.userId = :userId AND k.keywordId IN :keywordIds AND k.kind IN :kinds " +
+           "GROUP BY k.projectId HAVING COUNT(DISTINCT k.keywordId) = :keywordCount) " +
+           "ORDER BY bp.updatedAt DESC, bp.id DESC")
+    List<BrandingProjectSummaryResponse> findSummariesByAllKeywords(@Param("userId") Long userId,
+                                                                    @Param("keywordIds") Collection<Long> keywordIds,
+                                                                    @Param("keywordCount") long keywordCount,
+                                                                    @Param("kinds") Collection<KeywordKind> kinds,
+                                                                    Pageable pageable);
+    
+    @Query("SELECT new org.fr.farmranding.dto.branding.BrandingProjectSummaryResponse(" +
+           "bp.id, bp.title, bp.cropName, bp.grade, bp.updatedAt) " +
+           "FROM BrandingProject bp WHERE bp.id IN :ids")
+    List<BrandingProjectSummaryResponse> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * 제목/작물명 FULLTEXT(ngram) 검색, 관련도 순 ID
+     */
+    @Query(value = "SELECT bp.id FROM branding_projects bp WHERE bp.user_id = :userId " +
+                   "AND MATCH(bp.title, bp.crop_name) AGAINST (:query IN BOOLEAN MODE) " +
+                   "ORDER BY MATCH(bp.title, bp.crop_name) AGAINST (:query IN BOOLEAN MODE) DESC, bp.id DESC " +
+                   "LIMIT :limit", nativeQuery = true)
+    List<Long> searchIdsByFullText(@Param("userId") Long userId, @Param("query") String query, @Param("limit") int limit);
+    
+    /**
+     * ngram 토큰보다 짧은 검색어용 (사용자 범위 내 LIKE)
+     */
+    @Query(value = "SELECT bp.id FROM branding_projects bp WHERE bp.user_id = :userId " +
+                   "AND (bp.title LIKE CONCAT('%', :query, '%') OR bp.crop_name LIKE CONCAT('%', :query, '%')) " +
+                   "ORDER BY bp.updated_at DESC, bp.id DESC LIMIT :limit", nativeQuery = true)
+    List<Long> searchIdsByLike(@Param("userId") Long userId, @Param("query") String query, @Param("limit") int limit);
+    
     @Query("SELECT bp FROM BrandingProject bp WHERE bp.user.id = :userId ORDER BY bp.updatedAt DESC")
     List<BrandingProject> findRecentByUserId(@Param("userId") Long userId, Pageable pageable);
+    
+    /**
+     * ID 순 청크 조회 (색인 재구성 중 사용자 수정과 엇갈리지 않도록 행 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT bp FROM BrandingProject bp WHERE bp.id > :afterId ORDER BY bp.id")
+    List<BrandingProject> findChunkForUpdate(@Param("afterId") Long afterId, Pageable pageable);
 
 } 
\ No newline at end of file
@@ -0,0 +1,35 @@
+package org.fr.farmranding.repository;
+
+import org.fr.farmranding.entity.cache.CacheInvalidationEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface CacheInvalidationEventRepository extends JpaRepository<CacheInvalidationEvent, Long> {
+    
+    /**
+     * 발행 시각은 DB 시계로 기록 (폴링 구간도 DB 시계로 계산하므로 노드 간 시계 차이와 무관)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO cache_invalidation_events "
+            + "(cache_name, cache_key, origin_node_id, published_at, created_at, updated_at) "
+            + "VALUES (:cacheName, :cacheKey, :originNodeId, NOW(6), NOW(6), NOW(6))", nativeQuery = true)
+    int insert(@Param("cacheName") String cacheName,
+               @Param("cacheKey") String cacheKey,
+               @Param("originNodeId") String originNodeId);
+    
+    @Query("SELECT e FROM CacheInvalidationEvent e WHERE e.publishedAt >= :since ORDER BY e.id")
+    List<CacheInvalidationEvent> findPublishedSince(@Param("since") Instant since);
+    
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM CacheInvalidationEvent e WHERE e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") Instant before);
+}
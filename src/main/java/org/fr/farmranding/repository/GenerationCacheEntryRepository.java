@@ -0,0 +1,38 @@
+package org.fr.farmranding.repository;
+
+import org.fr.farmranding.entity.branding.GenerationCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface GenerationCacheEntryRepository extends JpaRepository<GenerationCacheEntry, Long> {
+    
+    Optional<GenerationCacheEntry> findByCacheKeyAndExpiresAtAfter(String cacheKey, LocalDateTime now);
+    
+    boolean existsByCacheKeyAndExpiresAtAfter(String cacheKey, LocalDateTime now);
+    
+    /**
+     * 결과 저장 (같은 키가 있으면 결과와 만료 시각 갱신)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO branding_generation_cache (cache_key, payload, expires_at, created_at, updated_at) "
+            + "VALUES (:cacheKey, :payload, :expiresAt, NOW(6), NOW(6)) "
+            + "ON DUPLICATE KEY UPDATE payload = VALUES(payload), expires_at = VALUES(expires_at), updated_at = NOW(6)",
+            nativeQuery = true)
+    int upsert(@Param("cacheKey") String cacheKey,
+               @Param("payload") String payload,
+               @Param("expiresAt") LocalDateTime expiresAt);
+    
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM GenerationCacheEntry e WHERE e.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,67 @@
+package org.fr.farmranding.repository;
+
+import org.fr.farmranding.entity.batch.JobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, Long> {
+    
+    Optional<JobCheckpoint> findByJobName(String jobName);
+    
+    /**
+     * 체크포인트 행이 없으면 생성
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO job_checkpoints (job_name, last_processed_id, completed, created_at, updated_at) "
+            + "VALUES (:jobName, 0, false, NOW(6), NOW(6))", nativeQuery = true)
+    int insertIfAbsent(@Param("jobName") String jobName);
+    
+    /**
+     * 작업 실행권 획득 (임대가 비어 있거나 만료된 경우에만 성공)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE JobCheckpoint c SET c.lockedUntil = :lockedUntil "
+            + "WHERE c.jobName = :jobName AND (c.lockedUntil IS NULL OR c.lockedUntil < :now)")
+    int claim(@Param("jobName") String jobName,
+              @Param("now") LocalDateTime now,
+              @Param("lockedUntil") LocalDateTime lockedUntil);
+    
+    /**
+     * 새 실행 단위 시작
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE JobCheckpoint c SET c.period = :period, c.lastProcessedId = 0, c.completed = false "
+            + "WHERE c.jobName = :jobName")
+    int start(@Param("jobName") String jobName, @Param("period") String period);
+    
+    /**
+     * 청크 처리 결과 기록 및 임대 연장 (청크 UPDATE와 같은 트랜잭션에서 호출)
+     */
+    @Modifying
+    @Query("UPDATE JobCheckpoint c SET c.lastProcessedId = :lastProcessedId, c.lockedUntil = :lockedUntil "
+            + "WHERE c.jobName = :jobName")
+    int advance(@Param("jobName") String jobName,
+                @Param("lastProcessedId") Long lastProcessedId,
+                @Param("lockedUntil") LocalDateTime lockedUntil);
+    
+    @Transactional
+    @Modifying
+    @Query("UPDATE JobCheckpoint c SET c.completed = true WHERE c.jobName = :jobName")
+    int complete(@Param("jobName") String jobName);
+    
+    @Transactional
+    @Modifying
+    @Query("UPDATE JobCheckpoint c SET c.lockedUntil = NULL WHERE c.jobName = :jobName")
+    int release(@Param("jobName") String jobName);
+}
@@ -0,0 +1,25 @@
+package org.fr.farmranding.repository;
+
+import org.fr.farmranding.entity.branding.Keyword;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface KeywordRepository extends JpaRepository<Keyword, Long> {
+    
+    List<Keyword> findByKeywordIn(Collection<String> keywords);
+    
+    /**
+     * 키워드가 없을 때만 추가 (동시 등록 시에도 중복 키 예외 없음)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO keywords (keyword, created_at, updated_at) VALUES (:keyword, NOW(6), NOW(6)) "
+            + "ON DUPLICATE KEY UPDATE keyword = keyword", nativeQuery = true)
+    int insertIfAbsent(@Param("keyword") String keyword);
+}
@@ -3,9 +3,12 @@ package org.fr.farmranding.repository;
 import org.fr.farmranding.entity.membership.MembershipPlan;
 import org.fr.farmranding.entity.user.MembershipType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +29,20 @@ public interface MembershipPlanRepository extends JpaRepository<MembershipPlan,
     @Query("SELECT mp FROM MembershipPlan mp WHERE mp.membershipType = :membershipType AND mp.isActive = true")
     Optional<MembershipPlan> findActiveByMembershipType(MembershipType membershipType);
     
+    /**
+     * 인기 플랜 전환 (지정 플랜만 true, 나머지 인기 플랜은 false)
+     * 한 문장으로 처리하므로 동시에 전환해도 인기 플랜이 둘 이상 남지 않습니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MembershipPlan mp SET mp.isPopular = CASE WHEN mp.id = :planId THEN true ELSE false END, " +
+           "mp.updatedAt = :now WHERE mp.isPopular = true OR mp.id = :planId")
+    int switchPopularPlan(@Param("planId") Long planId, @Param("now") LocalDateTime now);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MembershipPlan mp SET mp.isActive = CASE WHEN mp.isActive = true THEN false ELSE true END, " +
+           "mp.updatedAt = :now WHERE mp.id = :planId")
+    int toggleActive(@Param("planId") Long planId, @Param("now") LocalDateTime now);
+    
     boolean existsByMembershipType(MembershipType membershipType);
     
     long countByIsActiveTrue();
@@ -1,5 +1,6 @@
 package org.fr.farmranding.repository;
 
+import org.fr.farmranding.dto.pricequote.PriceQuoteSummaryResponse;
 import org.fr.farmranding.entity.pricequote.PriceQuoteRequest;
 import org.fr.farmranding.entity.pricequote.PriceQuoteStatus;
 import org.springframework.data.domain.Page;
@@ -9,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,14 +21,51 @@ public interface PriceQuoteRequestRepository extends JpaRepository<PriceQuoteReq
     
     Page<PriceQuoteRequest> findByUserId(Long userId, Pageable pageable);
     
-    List<PriceQuoteRequest> findByUserIdAndStatus(Long userId, PriceQuoteStatus status);
+    // 목록용 요약 조회 (요약 컬럼만 선택, 분석 결과 TEXT 제외)
     
-    @Query("SELECT p FROM PriceQuoteRequest p WHERE p.user.id = :userId AND p.cropName LIKE %:keyword%")
-    List<PriceQuoteRequest> findByUserIdAndCropNameContaining(@Param("userId") Long userId, 
-                                                             @Param("keyword") String keyword);
+    @Query("SELECT new org.fr.farmranding.dto.pricequote.PriceQuoteSummaryResponse(" +
+           "p.id, p.cropName, p.grade, p.status, p.finalPrice, p.updatedAt) " +
+           "FROM PriceQuoteRequest p WHERE p.user.id = :userId ORDER BY p.createdAt DESC")
+    List<PriceQuoteSummaryResponse> findSummariesByUserId(@Param("userId") Long userId);
     
-    @Query("SELECT p FROM PriceQuoteRequest p WHERE p.user.id = :userId ORDER BY p.createdAt DESC")
-    List<PriceQuoteRequest> findRecentByUserId(@Param("userId") Long userId, Pageable pageable);
+    @Query(value = "SELECT new org.fr.farmranding.dto.pricequote.PriceQuoteSummaryResponse(" +
+                   "p.id, p.cropName, p.grade, p.status, p.finalPrice, p.updatedAt) " +
+                   "FROM PriceQuoteRequest p WHERE p.user.id = :userId",
+           countQuery = "SELECT COUNT(p) FROM PriceQuoteRequest p WHERE p.user.id = :userId")
+    Page<PriceQuoteSummaryResponse> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
+    
+    @Query("SELECT new org.fr.farmranding.dto.pricequote.PriceQuoteSummaryResponse(" +
+           "p.id, p.cropName, p.grade, p.status, p.finalPrice, p.updatedAt) " +
+           "FROM PriceQuoteRequest p WHERE p.user.id = :userId AND p.status = :status ORDER BY p.createdAt DESC")
+    List<PriceQuoteSummaryResponse> findSummariesByUserIdAndStatus(@Param("userId") Long userId,
+                                                                   @Param("status") PriceQuoteStatus status);
+    
+    @Query("SELECT new org.fr.farmranding.dto.pricequote.PriceQuoteSummaryResponse(" +
+           "p.id, p.cropName, p.grade, p.status, p.finalPrice, p.updatedAt) " +
+           "FROM PriceQuoteRequest p WHERE p.id IN :ids")
+    List<PriceQuoteSummaryResponse> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    @Query("SELECT new org.fr.farmranding.dto.pricequote.PriceQuoteSummaryResponse(" +
+           "p.id, p.cropName, p.grade, p.status, p.finalPrice, p.updatedAt) " +
+           "FROM PriceQuoteRequest p WHERE p.user.id = :userId ORDER BY p.createdAt DESC")
+    List<PriceQuoteSummaryResponse> findRecentSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
+    
+    /**
+     * 작물명 FULLTEXT(ngram) 검색, 관련도 순 ID
+     */
+    @Query(value = "SELECT p.id FROM price_quote_requests p WHERE p.user_id = :userId " +
+                   "AND MATCH(p.crop_name) AGAINST (:query IN BOOLEAN MODE) " +
+                   "ORDER BY MATCH(p.crop_name) AGAINST (:query IN BOOLEAN MODE) DESC, p.id DESC " +
+                   "LIMIT :limit", nativeQuery = true)
+    List<Long> searchIdsByFullText(@Param("userId") Long userId, @Param("query") String query, @Param("limit") int limit);
+    
+    /**
+     * ngram 토큰보다 짧은 검색어용 (사용자 범위 내 LIKE)
+     */
+    @Query(value = "SELECT p.id FROM price_quote_requests p WHERE p.user_id = :userId " +
+                   "AND p.crop_name LIKE CONCAT('%', :query, '%') " +
+                   "ORDER BY p.created_at DESC, p.id DESC LIMIT :limit", nativeQuery = true)
+    List<Long> searchIdsByLike(@Param("userId") Long userId, @Param("query") String query, @Param("limit") int limit);
     
     Optional<PriceQuoteRequest> findByIdAndUserId(Long id, Long userId);
     
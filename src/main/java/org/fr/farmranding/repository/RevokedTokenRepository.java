@@ -0,0 +1,44 @@
+package org.fr.farmranding.repository;
+
+import org.fr.farmranding.entity.token.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+    
+    boolean existsByTokenId(String tokenId);
+    
+    /**
+     * 기록 시각은 DB 시계로 기록 (동기화 구간도 DB 시계로 계산하므로 노드 간 시계 차이와 무관)
+     * 이미 있는 tokenId면 unique 제약 위반으로 실패합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO revoked_tokens (token_id, user_id, expires_at, created_at, updated_at) "
+            + "VALUES (:tokenId, :userId, :expiresAt, NOW(6), NOW(6))", nativeQuery = true)
+    int insert(@Param("tokenId") String tokenId,
+               @Param("userId") Long userId,
+               @Param("expiresAt") LocalDateTime expiresAt);
+    
+    @Query("SELECT r.tokenId FROM RevokedToken r WHERE r.tokenId LIKE CONCAT(:prefix, '%') AND r.expiresAt > :now")
+    List<String> findActiveTokenIdsByPrefix(@Param("prefix") String prefix, @Param("now") LocalDateTime now);
+    
+    @Query("SELECT r.tokenId FROM RevokedToken r WHERE r.tokenId LIKE CONCAT(:prefix, '%') "
+            + "AND r.createdAt >= :since AND r.expiresAt > :now")
+    List<String> findActiveTokenIdsByPrefixCreatedSince(@Param("prefix") String prefix,
+                                                        @Param("since") LocalDateTime since,
+                                                        @Param("now") LocalDateTime now);
+    
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,48 @@
+package org.fr.farmranding.repository;
+
+import org.fr.farmranding.entity.user.UsageBucket;
+import org.fr.farmranding.entity.user.UsageType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface UsageBucketRepository extends JpaRepository<UsageBucket, Long> {
+    
+    /**
+     * 기간 창에 속한 구간 조회 (유니크 인덱스 범위 조회, 최대 구간 수만큼의 행)
+     */
+    @Query("SELECT b FROM UsageBucket b WHERE b.userId = :userId AND b.usageType = :usageType "
+            + "AND b.bucketIndex > :fromBucketExclusive")
+    List<UsageBucket> findWindow(@Param("userId") Long userId,
+                                 @Param("usageType") UsageType usageType,
+                                 @Param("fromBucketExclusive") long fromBucketExclusive);
+    
+    /**
+     * 구간 사용량 증가 (행이 없으면 생성)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO usage_buckets (user_id, usage_type, bucket_index, usage_count, created_at, updated_at) "
+            + "VALUES (:userId, :usageType, :bucketIndex, :delta, NOW(6), NOW(6)) "
+            + "ON DUPLICATE KEY UPDATE usage_count = usage_count + :delta, updated_at = NOW(6)", nativeQuery = true)
+    int increment(@Param("userId") Long userId,
+                  @Param("usageType") String usageType,
+                  @Param("bucketIndex") long bucketIndex,
+                  @Param("delta") int delta);
+    
+    @Modifying
+    @Query("UPDATE UsageBucket b SET b.usageCount = b.usageCount - 1 "
+            + "WHERE b.userId = :userId AND b.usageType = :usageType AND b.bucketIndex = :bucketIndex "
+            + "AND b.usageCount > 0")
+    int decrement(@Param("userId") Long userId,
+                  @Param("usageType") UsageType usageType,
+                  @Param("bucketIndex") long bucketIndex);
+    
+    @Modifying
+    @Query("DELETE FROM UsageBucket b WHERE b.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
@@ -3,9 +3,11 @@ package org.fr.farmranding.repository;
 import org.fr.farmranding.entity.user.User;
 import org.fr.farmranding.entity.user.MembershipType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -24,5 +26,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
     
     boolean existsByProviderId(String providerId);
+    
+    /**
+     * 소셜 로그인 사용자 생성 (이미 같은 provider_id 또는 email이 있으면 아무것도 하지 않음)
+     * 동시 최초 로그인에서도 unique 제약 위반 없이 한 행만 생성됩니다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO users (email, name, provider_id, membership_type, "
+            + "ai_branding_usage_count, pricing_suggestion_usage_count, created_at, updated_at) "
+            + "VALUES (:email, :name, :providerId, 'FREE', 0, 0, NOW(6), NOW(6)) "
+            + "ON DUPLICATE KEY UPDATE provider_id = provider_id", nativeQuery = true)
+    int insertIfAbsent(@Param("email") String email,
+                       @Param("name") String name,
+                       @Param("providerId") String providerId);
 
 } 
\ No newline at end of file
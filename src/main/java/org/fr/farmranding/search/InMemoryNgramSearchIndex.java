@@ -0,0 +1,155 @@
+package org.fr.farmranding.search;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 단일 JVM n-gram 역색인 (테스트, MySQL 없는 환경용)
+ * 한 글자와 두 글자 n-gram을 색인하고, 후보를 교집합으로 좁힌 뒤 부분 문자열 포함 여부로 확인합니다.
+ * 순위: 검색어 등장 횟수가 많을수록, 문서가 짧을수록, ID가 클수록 앞.
+ * 기동 이후 생성/수정된 문서만 색인되며, 트랜잭션 안에서 호출되면 커밋 후 반영합니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "farmranding.search", name = "engine", havingValue = "in-memory")
+public class InMemoryNgramSearchIndex implements TextSearchIndex {
+    
+    private record Entry(Long userId, String text) {}
+    
+    private record Hit(Long id, int occurrences, int length) {}
+    
+    private final Map<SearchTarget, Map<Long, Entry>> documents = new EnumMap<>(SearchTarget.class);
+    private final Map<SearchTarget, Map<String, Set<Long>>> postings = new EnumMap<>(SearchTarget.class);
+    
+    public InMemoryNgramSearchIndex() {
+        for (SearchTarget target : SearchTarget.values()) {
+            documents.put(target, new HashMap<>());
+            postings.put(target, new HashMap<>());
+        }
+    }
+    
+    @Override
+    public void index(SearchDocument document) {
+        afterCommit(() -> put(document));
+    }
+    
+    @Override
+    public void remove(SearchTarget target, Long id) {
+        afterCommit(() -> delete(target, id));
+    }
+    
+    @Override
+    public synchronized List<Long> search(SearchTarget target, Long userId, String query, int limit) {
+        String term = normalize(query);
+        if (term.isEmpty()) {
+            return List.of();
+        }
+        
+        Set<Long> candidates = null;
+        for (String gram : term.length() == 1 ? Set.of(term) : grams(term, 2)) {
+            Set<Long> posting = postings.get(target).getOrDefault(gram, Set.of());
+            if (candidates == null) {
+                candidates = new HashSet<>(posting);
+            } else {
+                candidates.retainAll(posting);
+            }
+            if (candidates.isEmpty()) {
+                return List.of();
+            }
+        }
+        
+        Map<Long, Entry> docs = documents.get(target);
+        return candidates.stream()
+                .map(id -> toHit(id, docs.get(id), userId, term))
+                .filter(hit -> hit != null)
+                .sorted(Comparator.comparingInt(Hit::occurrences).reversed()
+                        .thenComparingInt(Hit::length)
+                        .thenComparing(Hit::id, Comparator.reverseOrder()))
+                .limit(limit)
+                .map(Hit::id)
+                .toList();
+    }
+    
+    private synchronized void put(SearchDocument document) {
+        delete(document.target(), document.id());
+        
+        String text = normalize(String.join("\n", document.fields()));
+        documents.get(document.target()).put(document.id(), new Entry(document.userId(), text));
+        
+        Map<String, Set<Long>> targetPostings = postings.get(document.target());
+        for (int n = 1; n <= 2; n++) {
+            for (String gram : grams(text, n)) {
+                targetPostings.computeIfAbsent(gram, key -> new HashSet<>()).add(document.id());
+            }
+        }
+    }
+    
+    private synchronized void delete(SearchTarget target, Long id) {
+        Entry removed = documents.get(target).remove(id);
+        if (removed == null) {
+            return;
+        }
+        
+        Map<String, Set<Long>> targetPostings = postings.get(target);
+        for (int n = 1; n <= 2; n++) {
+            for (String gram : grams(removed.text(), n)) {
+                Set<Long> posting = targetPostings.get(gram);
+                if (posting != null && posting.remove(id) && posting.isEmpty()) {
+                    targetPostings.remove(gram);
+                }
+            }
+        }
+    }
+    
+    private static Hit toHit(Long id, Entry entry, Long userId, String term) {
+        if (entry == null || !entry.userId().equals(userId)) {
+            return null;
+        }
+        
+        int occurrences = 0;
+        for (int from = entry.text().indexOf(term); from >= 0; from = entry.text().indexOf(term, from + 1)) {
+            occurrences++;
+        }
+        return occurrences == 0 ? null : new Hit(id, occurrences, entry.text().length());
+    }
+    
+    private static Set<String> grams(String text, int n) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + n <= text.length(); i++) {
+            String gram = text.substring(i, i + n);
+            if (gram.isBlank() || gram.indexOf('\n') >= 0) {
+                continue;
+            }
+            grams.add(gram);
+        }
+        return grams;
+    }
+    
+    private static String normalize(String text) {
+        return text == null ? "" : text.strip().toLowerCase(Locale.ROOT);
+    }
+    
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
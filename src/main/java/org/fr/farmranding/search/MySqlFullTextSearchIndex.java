@@ -0,0 +1,89 @@
+package org.fr.farmranding.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.fr.farmranding.repository.BrandingProjectRepository;
+import org.fr.farmranding.repository.PriceQuoteRequestRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * MySQL FULLTEXT(ngram 파서) 기반 검색 색인 (기본값)
+ * 색인은 DB가 관리하므로 index/remove는 아무것도 하지 않습니다.
+ * ngram 토큰(기본 2글자)보다 짧은 한 글자 검색어(예: 배, 무, 감)는 FULLTEXT로 찾을 수 없어 사용자 범위 LIKE로 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "farmranding.search", name = "engine", havingValue = "mysql", matchIfMissing = true)
+public class MySqlFullTextSearchIndex implements TextSearchIndex {
+    
+    private static final int NGRAM_TOKEN_SIZE = 2;
+    
+    private final BrandingProjectRepository brandingProjectRepository;
+    private final PriceQuoteRequestRepository priceQuoteRequestRepository;
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * FULLTEXT 인덱스 생성 (Hibernate ddl-auto는 ngram FULLTEXT 인덱스를 만들지 못함)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        createFullTextIndex("branding_projects", "ft_branding_projects_title_crop_name", "title, crop_name");
+        createFullTextIndex("price_quote_requests", "ft_price_quote_requests_crop_name", "crop_name");
+    }
+    
+    @Override
+    public void index(SearchDocument document) {
+    }
+    
+    @Override
+    public void remove(SearchTarget target, Long id) {
+    }
+    
+    @Override
+    public List<Long> search(SearchTarget target, Long userId, String query, int limit) {
+        String term = query.strip();
+        if (term.isEmpty()) {
+            return List.of();
+        }
+        
+        if (term.length() < NGRAM_TOKEN_SIZE) {
+            return switch (target) {
+                case BRANDING_PROJECT -> brandingProjectRepository.searchIdsByLike(userId, term, limit);
+                case PRICE_QUOTE -> priceQuoteRequestRepository.searchIdsByLike(userId, term, limit);
+            };
+        }
+        
+        // 큰따옴표 구문 검색: 검색어의 n-gram이 순서대로 모두 있어야 일치 (LIKE '%검색어%'와 같은 의미)
+        String phrase = "\"" + term.replace("\"", " ") + "\"";
+        return switch (target) {
+            case BRANDING_PROJECT -> brandingProjectRepository.searchIdsByFullText(userId, phrase, limit);
+            case PRICE_QUOTE -> priceQuoteRequestRepository.searchIdsByFullText(userId, phrase, limit);
+        };
+    }
+    
+    private void createFullTextIndex(String table, String indexName, String columns) {
+        try {
+            Integer existing = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.statistics "
+                            + "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+                    Integer.class, table, indexName);
+            if (existing != null && existing > 0) {
+                return;
+            }
+            
+            jdbcTemplate.execute("ALTER TABLE " + table + " ADD FULLTEXT INDEX " + indexName
+                    + " (" + columns + ") WITH PARSER ngram");
+            log.info("FULLTEXT 인덱스 생성 완료: table={}, index={}", table, indexName);
+        } catch (DataAccessException e) {
+            log.error("FULLTEXT 인덱스 생성 실패: table={}, index={}", table, indexName, e);
+        }
+    }
+}
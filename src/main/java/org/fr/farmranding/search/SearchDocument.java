@@ -0,0 +1,13 @@
+package org.fr.farmranding.search;
+
+import java.util.List;
+
+/**
+ * 검색 색인 문서
+ *
+ * @param target 검색 대상
+ * @param id     대상 엔티티 ID
+ * @param userId 소유 사용자 ID (검색은 항상 사용자 범위)
+ * @param fields 검색 대상 필드 값
+ */
+public record SearchDocument(SearchTarget target, Long id, Long userId, List<String> fields) {}
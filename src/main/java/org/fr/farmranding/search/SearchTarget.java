@@ -0,0 +1,11 @@
+package org.fr.farmranding.search;
+
+/**
+ * 전문 검색 대상
+ */
+public enum SearchTarget {
+    // 브랜딩 프로젝트 제목, 작물명
+    BRANDING_PROJECT,
+    // 가격 견적 작물명
+    PRICE_QUOTE
+}
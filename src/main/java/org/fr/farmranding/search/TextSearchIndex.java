@@ -0,0 +1,19 @@
+package org.fr.farmranding.search;
+
+import java.util.List;
+
+/**
+ * 제목/작물명 전문 검색 색인
+ * 결과는 관련도 높은 순의 엔티티 ID이며, 최대 limit개입니다.
+ */
+public interface TextSearchIndex {
+    
+    /**
+     * 문서 추가 또는 갱신 (DB 색인을 쓰는 구현은 아무것도 하지 않음)
+     */
+    void index(SearchDocument document);
+    
+    void remove(SearchTarget target, Long id);
+    
+    List<Long> search(SearchTarget target, Long userId, String query, int limit);
+}
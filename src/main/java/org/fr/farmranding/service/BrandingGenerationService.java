@@ -0,0 +1,23 @@
+package org.fr.farmranding.service;
+
+import org.fr.farmranding.auth.UserPrincipal;
+import org.fr.farmranding.dto.branding.BrandingGenerationJobResponse;
+import org.fr.farmranding.dto.branding.BrandingProjectCreateRequest;
+
+/**
+ * AI 브랜딩 생성 작업 서비스
+ * 생성 요청을 작업으로 저장하고 바로 반환하며, 실제 생성은 워커가 비동기로 처리합니다.
+ */
+public interface BrandingGenerationService {
+    
+    /**
+     * 브랜딩 생성 요청 접수
+     * 보관 한도 확인과 사용량 차감까지 요청 스레드에서 처리한 뒤 작업을 반환합니다.
+     */
+    BrandingGenerationJobResponse submit(BrandingProjectCreateRequest request, UserPrincipal currentUser);
+    
+    /**
+     * 내 브랜딩 생성 작업 상태 조회
+     */
+    BrandingGenerationJobResponse getJob(Long jobId, UserPrincipal currentUser);
+}
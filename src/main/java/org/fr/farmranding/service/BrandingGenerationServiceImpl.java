@@ -0,0 +1,112 @@
+package org.fr.farmranding.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.fr.farmranding.auth.UserPrincipal;
+import org.fr.farmranding.common.code.FarmrandingResponseCode;
+import org.fr.farmranding.common.exception.BusinessException;
+import org.fr.farmranding.dto.branding.BrandingGenerationJobResponse;
+import org.fr.farmranding.dto.branding.BrandingProjectCreateRequest;
+import org.fr.farmranding.entity.branding.BrandingGenerationJob;
+import org.fr.farmranding.entity.branding.GenerationJobStatus;
+import org.fr.farmranding.entity.user.UsageType;
+import org.fr.farmranding.generation.BrandingGenerationWorker;
+import org.fr.farmranding.generation.GenerationResultCache;
+import org.fr.farmranding.repository.BrandingGenerationJobRepository;
+import org.fr.farmranding.repository.BrandingProjectRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumSet;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class BrandingGenerationServiceImpl implements BrandingGenerationService {
+    
+    private final BrandingGenerationJobRepository jobRepository;
+    private final BrandingProjectRepository brandingProjectRepository;
+    private final QuotaLedgerService quotaLedgerService;
+    private final MembershipPlanRegistry membershipPlanRegistry;
+    private final BrandingGenerationWorker brandingGenerationWorker;
+    private final GenerationResultCache generationResultCache;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BrandingGenerationJobResponse submit(BrandingProjectCreateRequest request, UserPrincipal currentUser) {
+        // AI 브랜딩 사용량 차감 (작업 저장 트랜잭션을 열기 전에 커밋, 생성 실패 시 워커가 같은 구간으로 환불)
+        // 같은 입력의 생성 결과가 캐시에 있으면 차감하지 않음 (그 사이 캐시에서 빠지면 워커가 생성 직전에 차감)
+        Long usageBucketIndex = generationResultCache.contains(request)
+                ? null
+                : quotaLedgerService.consume(currentUser, UsageType.AI_BRANDING);
+        
+        BrandingGenerationJob job;
+        try {
+            job = transactionTemplate.execute(status -> {
+                checkStorageLimit(currentUser);
+                BrandingGenerationJob saved = jobRepository.save(BrandingGenerationJob.builder()
+                        .userId(currentUser.getId())
+                        .payload(toPayload(request))
+                        .usageBucketIndex(usageBucketIndex)
+                        .build());
+                brandingGenerationWorker.dispatchAfterCommit(saved.getId());
+                return saved;
+            });
+        } catch (RuntimeException e) {
+            // 보관 한도 초과 등으로 작업을 저장하지 못하면 차감한 사용량을 환불
+            if (usageBucketIndex != null) {
+                quotaLedgerService.refund(currentUser.getId(), UsageType.AI_BRANDING, usageBucketIndex);
+            }
+            throw e;
+        }
+        log.info("브랜딩 생성 작업 접수: jobId={}, userId={}", job.getId(), currentUser.getId());
+        
+        return BrandingGenerationJobResponse.from(job);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public BrandingGenerationJobResponse getJob(Long jobId, UserPrincipal currentUser) {
+        return jobRepository.findByIdAndUserId(jobId, currentUser.getId())
+                .map(BrandingGenerationJobResponse::from)
+                .orElseThrow(() -> BusinessException.expected(FarmrandingResponseCode.BRANDING_GENERATION_JOB_NOT_FOUND));
+    }
+    
+    /**
+     * 플랜의 프로젝트 보관 한도 확인 (진행 중인 작업도 곧 프로젝트가 되므로 함께 셈)
+     * 사용자 행을 잠가 같은 사용자의 동시 접수가 확인과 작업 저장 사이에 끼어들지 못하게 합니다.
+     */
+    private void checkStorageLimit(UserPrincipal currentUser) {
+        int storageLimit = membershipPlanRegistry.getLimits(currentUser.getMembershipType()).projectStorageLimit();
+        if (storageLimit == PlanLimits.UNLIMITED) {
+            return;
+        }
+        
+        if (jdbcTemplate.queryForList("SELECT id FROM users WHERE id = ? FOR UPDATE", Long.class,
+                currentUser.getId()).isEmpty()) {
+            throw BusinessException.expected(FarmrandingResponseCode.USER_NOT_FOUND);
+        }
+        if (brandingProjectRepository.countByUserId(currentUser.getId())
+                + jobRepository.countByUserIdAndStatusIn(currentUser.getId(),
+                EnumSet.of(GenerationJobStatus.QUEUED, GenerationJobStatus.RUNNING)) >= storageLimit) {
+            throw BusinessException.expected(FarmrandingResponseCode.BRANDING_PROJECT_STORAGE_LIMIT_EXCEEDED);
+        }
+    }
+    
+    private String toPayload(BrandingProjectCreateRequest request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("브랜딩 생성 요청 직렬화에 실패했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package org.fr.farmranding.service;
+
+import lombok.RequiredArgsConstructor;
+import org.fr.farmranding.dto.branding.BrandingProjectSummaryResponse;
+import org.fr.farmranding.dto.branding.KeywordMatch;
+import org.fr.farmranding.entity.branding.BrandingProject;
+import org.fr.farmranding.entity.branding.BrandingProjectKeyword;
+import org.fr.farmranding.entity.branding.KeywordKind;
+import org.fr.farmranding.repository.BrandingProjectKeywordRepository;
+import org.fr.farmranding.repository.BrandingProjectRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 브랜딩 프로젝트 키워드 역색인 관리 및 검색
+ * 프로젝트 키워드가 바뀔 때 같은 트랜잭션 안에서 역색인 행을 다시 만듭니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BrandingKeywordIndex {
+    
+    private final KeywordDictionary keywordDictionary;
+    private final BrandingProjectKeywordRepository brandingProjectKeywordRepository;
+    private final BrandingProjectRepository brandingProjectRepository;
+    
+    /**
+     * 프로젝트의 키워드 역색인 재구성
+     */
+    public void reindex(BrandingProject project) {
+        brandingProjectKeywordRepository.deleteByProjectId(project.getId());
+        
+        Map<KeywordKind, List<String>> keywordsByKind = new EnumMap<>(KeywordKind.class);
+        putIfPresent(keywordsByKind, KeywordKind.BRANDING, project.getBrandingKeywords());
+        putIfPresent(keywordsByKind, KeywordKind.CROP_APPEAL, project.getCropAppealKeywords());
+        putIfPresent(keywordsByKind, KeywordKind.LOGO_IMAGE, project.getLogoImageKeywords());
+        if (keywordsByKind.isEmpty()) {
+            return;
+        }
+        
+        Map<String, Long> keywordIds = keywordDictionary.intern(
+                keywordsByKind.values().stream().flatMap(Collection::stream).toList());
+        
+        Long userId = project.getUser().getId();
+        List<BrandingProjectKeyword> rows = new ArrayList<>();
+        keywordsByKind.forEach((kind, keywords) -> {
+            Set<Long> added = new HashSet<>();
+            for (String keyword : keywords) {
+                Long keywordId = keywordIds.get(KeywordDictionary.normalize(keyword));
+                if (keywordId != null && added.add(keywordId)) {
+                    rows.add(BrandingProjectKeyword.builder()
+                            .userId(userId)
+                            .projectId(project.getId())
+                            .keywordId(keywordId)
+                            .kind(kind)
+                            .build());
+                }
+            }
+        });
+        brandingProjectKeywordRepository.saveAll(rows);
+    }
+    
+    public void remove(Long projectId) {
+        brandingProjectKeywordRepository.deleteByProjectId(projectId);
+    }
+    
+    /**
+     * 키워드로 사용자 프로젝트 검색 (최근 수정 순)
+     */
+    public List<BrandingProjectSummaryResponse> search(Long userId, Collection<String> keywords, KeywordMatch match,
+                                                       Collection<KeywordKind> kinds, int limit) {
+        Map<String, Long> keywordIds = keywordDictionary.lookup(keywords);
+        long requested = keywords.stream()
+                .map(KeywordDictionary::normalize)
+                .filter(keyword -> keyword != null)
+                .distinct()
+                .count();
+        
+        // 사전에 없는 키워드는 어떤 프로젝트에도 없음
+        if (keywordIds.isEmpty() || (match == KeywordMatch.ALL && keywordIds.size() < requested)) {
+            return List.of();
+        }
+        
+        PageRequest pageable = PageRequest.of(0, limit);
+        if (match == KeywordMatch.ALL) {
+            return brandingProjectRepository.findSummariesByAllKeywords(
+                    userId, keywordIds.values(), (long) keywordIds.size(), kinds, pageable);
+        }
+        return brandingProjectRepository.findSummariesByAnyKeyword(userId, keywordIds.values(), kinds, pageable);
+    }
+    
+    private static void putIfPresent(Map<KeywordKind, List<String>> keywordsByKind, KeywordKind kind, List<String> keywords) {
+        if (keywords != null && !keywords.isEmpty()) {
+            keywordsByKind.put(kind, keywords);
+        }
+    }
+}
@@ -1,11 +1,17 @@
 package org.fr.farmranding.service;
 
+import org.fr.farmranding.auth.UserPrincipal;
+import org.fr.farmranding.common.dto.CursorPageResponse;
 import org.fr.farmranding.dto.branding.BrandingProjectCreateRequest;
 import org.fr.farmranding.dto.branding.BrandingProjectResponse;
+import org.fr.farmranding.dto.branding.BrandingProjectSummaryResponse;
 import org.fr.farmranding.dto.branding.BrandingProjectUpdateRequest;
-import org.fr.farmranding.entity.user.User;
+import org.fr.farmranding.dto.branding.KeywordMatch;
+import org.fr.farmranding.entity.branding.KeywordKind;
+import org.fr.farmranding.generation.GeneratedBranding;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * 브랜딩 프로젝트 관리 서비스
@@ -14,30 +20,53 @@ import java.util.List;
 public interface BrandingService {
 
     /**
-     * 브랜딩 프로젝트 생성
-     * 작물정보, GAP 인증 여부, 키워드를 입력받아 GPT로 브랜딩을 완료하고 프로젝트를 생성합니다.
+     * 생성 작업 결과로 브랜딩 프로젝트 저장
+     * 작물정보, GAP 인증 여부, 키워드와 GPT 생성 결과로 완료된 프로젝트를 만듭니다.
+     * 보관 한도와 사용량은 작업 접수 시 확인했으므로 여기서는 확인하지 않습니다.
      */
-    BrandingProjectResponse createBrandingProject(BrandingProjectCreateRequest request, User currentUser);
+    Long saveGeneratedProject(Long userId, BrandingProjectCreateRequest request, GeneratedBranding generated);
 
     /**
      * 브랜딩 프로젝트 단건 조회
      */
-    BrandingProjectResponse getBrandingProject(Long projectId, User currentUser);
+    BrandingProjectResponse getBrandingProject(Long projectId, UserPrincipal currentUser);
 
     /**
      * 사용자의 모든 브랜딩 프로젝트 목록 조회
      */
-    List<BrandingProjectResponse> getUserBrandingProjects(User currentUser);
+    List<BrandingProjectSummaryResponse> getUserBrandingProjects(UserPrincipal currentUser);
+    
+    /**
+     * 사용자의 브랜딩 프로젝트 목록 커서 페이지 조회 (최근 수정 순)
+     */
+    CursorPageResponse<BrandingProjectSummaryResponse> getUserBrandingProjectPage(UserPrincipal currentUser, String cursor, int size);
+    
+    /**
+     * 제목/작물명으로 내 브랜딩 프로젝트 검색 (관련도 순)
+     */
+    List<BrandingProjectSummaryResponse> searchBrandingProjects(UserPrincipal currentUser, String query, int size);
+    
+    /**
+     * 키워드로 내 브랜딩 프로젝트 검색
+     * kinds가 비어 있으면 모든 키워드 종류에서 찾습니다.
+     */
+    List<BrandingProjectSummaryResponse> searchBrandingProjectsByKeywords(UserPrincipal currentUser, List<String> keywords,
+                                                                          KeywordMatch match, Set<KeywordKind> kinds, int size);
 
     /**
      * 브랜딩 프로젝트 수정
      * 프로젝트 기본 정보, GAP 정보, 키워드 등을 수정합니다.
      */
-    BrandingProjectResponse updateBrandingProject(Long projectId, BrandingProjectUpdateRequest request, User currentUser);
+    BrandingProjectResponse updateBrandingProject(Long projectId, BrandingProjectUpdateRequest request, UserPrincipal currentUser);
+
+    /**
+     * 다시 생성한 홍보 문구와 브랜드 스토리 저장
+     */
+    BrandingProjectResponse updateGeneratedCopy(Long projectId, Long userId, String promotionText, String brandStory);
 
     /**
      * 브랜딩 프로젝트 삭제
      */
-    void deleteBrandingProject(Long projectId, User currentUser);
+    void deleteBrandingProject(Long projectId, UserPrincipal currentUser);
 
 }
@@ -2,18 +2,36 @@ package org.fr.farmranding.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.fr.farmranding.auth.UserPrincipal;
+import org.fr.farmranding.common.dto.CursorPageResponse;
+import org.fr.farmranding.common.dto.KeysetCursor;
 import org.fr.farmranding.common.exception.BusinessException;
+import org.fr.farmranding.config.SearchProperties;
 import org.fr.farmranding.common.code.FarmrandingResponseCode;
 import org.fr.farmranding.dto.branding.BrandingProjectCreateRequest;
 import org.fr.farmranding.dto.branding.BrandingProjectResponse;
+import org.fr.farmranding.dto.branding.BrandingProjectSummaryResponse;
 import org.fr.farmranding.dto.branding.BrandingProjectUpdateRequest;
+import org.fr.farmranding.dto.branding.KeywordMatch;
 import org.fr.farmranding.entity.branding.BrandingProject;
-import org.fr.farmranding.entity.user.User;
+import org.fr.farmranding.entity.branding.KeywordKind;
+import org.fr.farmranding.generation.GeneratedBranding;
 import org.fr.farmranding.repository.BrandingProjectRepository;
+import org.fr.farmranding.repository.UserRepository;
+import org.fr.farmranding.search.SearchDocument;
+import org.fr.farmranding.search.SearchTarget;
+import org.fr.farmranding.search.TextSearchIndex;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -21,48 +39,108 @@ import java.util.List;
 @Transactional
 public class BrandingServiceImpl implements BrandingService {
     
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_KEYWORDS = 10;
+    
     private final BrandingProjectRepository brandingProjectRepository;
-    private final UserService userService;
+    private final UserRepository userRepository;
+    private final BrandingKeywordIndex brandingKeywordIndex;
+    private final TextSearchIndex textSearchIndex;
+    private final SearchProperties searchProperties;
     
     @Override
-    public BrandingProjectResponse createBrandingProject(BrandingProjectCreateRequest request, User currentUser) {
-        // AI 브랜딩 사용량 체크
-        userService.incrementAiBrandingUsage(currentUser.getId());
-        
+    public Long saveGeneratedProject(Long userId, BrandingProjectCreateRequest request, GeneratedBranding generated) {
         BrandingProject project = BrandingProject.builder()
-                .title(request.title())
-                .user(currentUser)
-                .cropName(request.cropName())
-                .variety(request.variety())
-                .cultivationMethod(request.cultivationMethod())
-                .grade(request.grade())
+                .user(userRepository.getReferenceById(userId))
                 .build();
+        project.createCompleteProject(
+                request.title(), request.cropName(), request.variety(),
+                request.cultivationMethod(), request.grade(), request.hasGapCertification(),
+                request.brandingKeywords(), request.cropAppealKeywords(), request.logoImageKeywords(),
+                generated.brandName(), generated.promotionText(),
+                generated.brandStory(), generated.brandConcept(), generated.brandImageUrl());
         
         BrandingProject savedProject = brandingProjectRepository.save(project);
-        log.info("브랜딩 프로젝트 생성 완료: projectId={}, userId={}", savedProject.getId(), currentUser.getId());
+        brandingKeywordIndex.reindex(savedProject);
+        textSearchIndex.index(toSearchDocument(savedProject, userId));
+        log.info("브랜딩 프로젝트 생성 완료: projectId={}, userId={}", savedProject.getId(), userId);
         
-        return BrandingProjectResponse.from(savedProject);
+        return savedProject.getId();
     }
     
     @Override
     @Transactional(readOnly = true)
-    public BrandingProjectResponse getBrandingProject(Long projectId, User currentUser) {
+    public BrandingProjectResponse getBrandingProject(Long projectId, UserPrincipal currentUser) {
         BrandingProject project = findProjectByIdAndUser(projectId, currentUser.getId());
         return BrandingProjectResponse.from(project);
     }
     
     @Override
     @Transactional(readOnly = true)
-    public List<BrandingProjectResponse> getUserBrandingProjects(User currentUser) {
-        List<BrandingProject> projects = brandingProjectRepository.findByUserId(currentUser.getId());
-        return projects.stream()
-                .map(BrandingProjectResponse::from)
-                .toList();
+    public List<BrandingProjectSummaryResponse> getUserBrandingProjects(UserPrincipal currentUser) {
+        return brandingProjectRepository.findSummariesByUserId(currentUser.getId());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<BrandingProjectSummaryResponse> getUserBrandingProjectPage(UserPrincipal currentUser, String cursor, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<BrandingProjectSummaryResponse> projects = after == null
+                ? brandingProjectRepository.findFirstPageByUserId(currentUser.getId(), limit)
+                : brandingProjectRepository.findPageByUserIdAfter(currentUser.getId(), after.updatedAt(), after.id(), limit);
+        
+        String nextCursor = null;
+        if (projects.size() > pageSize) {
+            projects = projects.subList(0, pageSize);
+            BrandingProjectSummaryResponse last = projects.get(pageSize - 1);
+            nextCursor = new KeysetCursor(last.updatedAt(), last.id()).encode();
+        }
+        
+        return CursorPageResponse.of(projects, nextCursor);
     }
 
     
     @Override
-    public BrandingProjectResponse updateBrandingProject(Long projectId, BrandingProjectUpdateRequest request, User currentUser) {
+    @Transactional(readOnly = true)
+    public List<BrandingProjectSummaryResponse> searchBrandingProjectsByKeywords(UserPrincipal currentUser, List<String> keywords,
+                                                                                 KeywordMatch match, Set<KeywordKind> kinds, int size) {
+        if (keywords == null || keywords.isEmpty() || keywords.size() > MAX_SEARCH_KEYWORDS) {
+            throw BusinessException.expected(FarmrandingResponseCode.INVALID_INPUT);
+        }
+        
+        Set<KeywordKind> searchKinds = kinds == null || kinds.isEmpty() ? EnumSet.allOf(KeywordKind.class) : kinds;
+        return brandingKeywordIndex.search(currentUser.getId(), keywords, match, searchKinds,
+                Math.clamp(size, 1, MAX_PAGE_SIZE));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<BrandingProjectSummaryResponse> searchBrandingProjects(UserPrincipal currentUser, String query, int size) {
+        if (query == null || query.isBlank()) {
+            throw BusinessException.expected(FarmrandingResponseCode.INVALID_INPUT);
+        }
+        
+        List<Long> ids = textSearchIndex.search(SearchTarget.BRANDING_PROJECT, currentUser.getId(), query,
+                Math.clamp(size, 1, searchProperties.getMaxResults()));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        
+        // 검색 색인의 관련도 순서 유지
+        Map<Long, BrandingProjectSummaryResponse> summaries = brandingProjectRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(BrandingProjectSummaryResponse::id, Function.identity()));
+        return ids.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+    
+    @Override
+    public BrandingProjectResponse updateBrandingProject(Long projectId, BrandingProjectUpdateRequest request, UserPrincipal currentUser) {
         BrandingProject project = findProjectByIdAndUser(projectId, currentUser.getId());
 
         // 기본 정보 업데이트
@@ -82,6 +160,9 @@ public class BrandingServiceImpl implements BrandingService {
         }
         
         // 키워드 정보 업데이트
+        boolean keywordsChanged = request.brandingKeywords() != null
+                || request.cropAppealKeywords() != null
+                || request.logoImageKeywords() != null;
         if (request.brandingKeywords() != null) {
             project.updateBrandingKeywords(request.brandingKeywords());
         }
@@ -93,21 +174,41 @@ public class BrandingServiceImpl implements BrandingService {
         }
         
         BrandingProject savedProject = brandingProjectRepository.save(project);
+        if (keywordsChanged) {
+            brandingKeywordIndex.reindex(savedProject);
+        }
+        textSearchIndex.index(toSearchDocument(savedProject, currentUser.getId()));
         log.info("브랜딩 프로젝트 수정 완료: projectId={}", projectId);
         
         return BrandingProjectResponse.from(savedProject);
     }
     
     @Override
-    public void deleteBrandingProject(Long projectId, User currentUser) {
+    public BrandingProjectResponse updateGeneratedCopy(Long projectId, Long userId, String promotionText, String brandStory) {
+        BrandingProject project = findProjectByIdAndUser(projectId, userId);
+        project.updateGeneratedCopy(promotionText, brandStory);
+        log.info("브랜딩 문구 재생성 저장 완료: projectId={}", projectId);
+        
+        return BrandingProjectResponse.from(project);
+    }
+    
+    @Override
+    public void deleteBrandingProject(Long projectId, UserPrincipal currentUser) {
         BrandingProject project = findProjectByIdAndUser(projectId, currentUser.getId());
         
+        brandingKeywordIndex.remove(project.getId());
         brandingProjectRepository.delete(project);
+        textSearchIndex.remove(SearchTarget.BRANDING_PROJECT, projectId);
         log.info("브랜딩 프로젝트 삭제 완료: projectId={}", projectId);
     }
     
     private BrandingProject findProjectByIdAndUser(Long projectId, Long userId) {
         return brandingProjectRepository.findByIdAndUserId(projectId, userId)
-                .orElseThrow(() -> new BusinessException(FarmrandingResponseCode.USER_NOT_FOUND));
+                .orElseThrow(() -> BusinessException.expected(FarmrandingResponseCode.USER_NOT_FOUND));
+    }
+    
+    private static SearchDocument toSearchDocument(BrandingProject project, Long userId) {
+        return new SearchDocument(SearchTarget.BRANDING_PROJECT, project.getId(), userId,
+                List.of(project.getTitle(), project.getCropName()));
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,138 @@
+package org.fr.farmranding.service;
+
+import lombok.RequiredArgsConstructor;
+import org.fr.farmranding.entity.branding.Keyword;
+import org.fr.farmranding.repository.KeywordRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 키워드 문자열 → 키워드 ID 사전
+ * 키워드 행은 삭제되지 않으므로 한 번 찾은 ID는 메모리에 두고 재사용합니다.
+ * 트랜잭션 안에서 찾은 ID는 커밋된 뒤에만 캐시에 넣어, 롤백으로 사라진 키워드 ID가 남지 않게 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class KeywordDictionary {
+    
+    private static final int MAX_KEYWORD_LENGTH = 100;
+    private static final int MAX_CACHED_KEYWORDS = 100_000;
+    
+    private final KeywordRepository keywordRepository;
+    
+    private final Map<String, Long> cache = new ConcurrentHashMap<>();
+    
+    /**
+     * 비교용 키워드 정규화 (앞뒤 공백 제거, 연속 공백 하나로, 소문자)
+     * 빈 값이나 너무 긴 값은 null
+     */
+    public static String normalize(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        String normalized = keyword.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        if (normalized.isEmpty() || normalized.length() > MAX_KEYWORD_LENGTH) {
+            return null;
+        }
+        return normalized;
+    }
+    
+    /**
+     * 키워드 ID 조회, 없는 키워드는 사전에 추가 (정규화된 키워드 → ID)
+     */
+    public Map<String, Long> intern(Collection<String> keywords) {
+        Set<String> normalized = normalizeAll(keywords);
+        Map<String, Long> result = new HashMap<>();
+        Set<String> missing = resolveCached(normalized, result);
+        
+        if (!missing.isEmpty()) {
+            missing.forEach(keywordRepository::insertIfAbsent);
+            load(missing, result);
+        }
+        return result;
+    }
+    
+    /**
+     * 키워드 ID 조회 (사전에 없는 키워드는 결과에서 제외)
+     */
+    public Map<String, Long> lookup(Collection<String> keywords) {
+        Set<String> normalized = normalizeAll(keywords);
+        Map<String, Long> result = new HashMap<>();
+        Set<String> missing = resolveCached(normalized, result);
+        
+        if (!missing.isEmpty()) {
+            load(missing, result);
+        }
+        return result;
+    }
+    
+    private Set<String> normalizeAll(Collection<String> keywords) {
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String keyword : keywords) {
+            String value = normalize(keyword);
+            if (value != null) {
+                normalized.add(value);
+            }
+        }
+        return normalized;
+    }
+    
+    private Set<String> resolveCached(Set<String> keywords, Map<String, Long> result) {
+        Set<String> missing = new LinkedHashSet<>();
+        for (String keyword : keywords) {
+            Long id = cache.get(keyword);
+            if (id != null) {
+                result.put(keyword, id);
+            } else {
+                missing.add(keyword);
+            }
+        }
+        return missing;
+    }
+    
+    private void load(Set<String> keywords, Map<String, Long> result) {
+        Map<String, Long> found = new HashMap<>();
+        for (Keyword keyword : keywordRepository.findByKeywordIn(keywords)) {
+            String normalized = normalize(keyword.getKeyword());
+            if (normalized != null && keywords.contains(normalized)) {
+                found.put(normalized, keyword.getId());
+            }
+        }
+        result.putAll(found);
+        cacheAfterCommit(found);
+    }
+    
+    private void cacheAfterCommit(Map<String, Long> found) {
+        if (found.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cacheAll(found);
+            return;
+        }
+        
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cacheAll(found);
+            }
+        });
+    }
+    
+    private void cacheAll(Map<String, Long> found) {
+        if (cache.size() + found.size() > MAX_CACHED_KEYWORDS) {
+            cache.clear();
+        }
+        cache.putAll(found);
+    }
+}
@@ -0,0 +1,151 @@
+package org.fr.farmranding.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.fr.farmranding.cache.CacheInvalidationBus;
+import org.fr.farmranding.cache.CacheNames;
+import org.fr.farmranding.common.dto.FarmrandingResponseBody;
+import org.fr.farmranding.dto.membership.MembershipPlanResponse;
+import org.fr.farmranding.entity.membership.MembershipPlan;
+import org.fr.farmranding.entity.user.MembershipType;
+import org.fr.farmranding.repository.MembershipPlanRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 공개 멤버십 플랜 카탈로그
+ * 플랜 목록/타입별/인기 플랜 응답을 미리 JSON(원본, gzip) 바이트로 만들어 두고,
+ * 플랜이 변경되어 커밋된 뒤에만 다시 만듭니다. 요청 처리 시 DB 조회와 직렬화가 없습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MembershipPlanCatalog {
+    
+    private final MembershipPlanRepository membershipPlanRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final ObjectMapper objectMapper;
+    
+    private volatile Snapshot snapshot;
+    
+    /**
+     * 미리 직렬화된 응답 본문
+     *
+     * @param identity 원본 JSON
+     * @param gzip     gzip 압축 JSON
+     * @param etag     원본 본문의 SHA-256 기반 강한 ETag (따옴표 포함)
+     */
+    public record Entry(byte[] identity, byte[] gzip, String etag) {
+        
+        /**
+         * gzip 표현용 ETag (표현마다 바이트가 다르므로 강한 ETag도 달라야 함)
+         */
+        public String gzipEtag() {
+            return etag.substring(0, etag.length() - 1) + "-gz\"";
+        }
+    }
+    
+    private record Snapshot(Entry activePlans, Map<MembershipType, Entry> byType, Entry popularPlan) {}
+    
+    public Entry getActivePlans() {
+        return currentSnapshot().activePlans();
+    }
+    
+    /**
+     * 활성 플랜이 없으면 null
+     */
+    public Entry getPlanByType(MembershipType membershipType) {
+        return currentSnapshot().byType().get(membershipType);
+    }
+    
+    /**
+     * 인기 플랜이 없으면 null
+     */
+    public Entry getPopularPlan() {
+        return currentSnapshot().popularPlan();
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+    
+    @PostConstruct
+    public void subscribe() {
+        // 이 노드의 변경은 커밋 직후, 다른 노드의 변경은 무효화 버스 수신 시 재구성
+        cacheInvalidationBus.subscribe(CacheNames.MEMBERSHIP_PLANS, invalidation -> rebuild());
+    }
+    
+    public synchronized void rebuild() {
+        List<MembershipPlan> activePlans = membershipPlanRepository.findActivePlansOrderedBySortOrder();
+        
+        List<MembershipPlanResponse> responses = activePlans.stream()
+                .map(MembershipPlanResponse::from)
+                .toList();
+        
+        Map<MembershipType, Entry> byType = new EnumMap<>(MembershipType.class);
+        for (MembershipPlanResponse response : responses) {
+            byType.put(response.membershipType(), toEntry(response));
+        }
+        
+        Entry popularPlan = membershipPlanRepository.findByIsPopularTrue()
+                .map(MembershipPlanResponse::from)
+                .map(this::toEntry)
+                .orElse(null);
+        
+        this.snapshot = new Snapshot(toEntry(responses), Map.copyOf(byType), popularPlan);
+        log.info("멤버십 플랜 카탈로그 갱신: activePlans={}", responses.size());
+    }
+    
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            rebuild();
+            current = snapshot;
+        }
+        return current;
+    }
+    
+    private Entry toEntry(Object data) {
+        try {
+            byte[] identity = objectMapper.writeValueAsBytes(FarmrandingResponseBody.success(data));
+            return new Entry(identity, gzip(identity), etagOf(identity));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멤버십 플랜 카탈로그 직렬화에 실패했습니다.", e);
+        }
+    }
+    
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+    
+    private static String etagOf(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.fr.farmranding.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.fr.farmranding.cache.CacheInvalidationBus;
+import org.fr.farmranding.cache.CacheNames;
+import org.fr.farmranding.entity.membership.MembershipPlan;
+import org.fr.farmranding.entity.user.MembershipType;
+import org.fr.farmranding.repository.MembershipPlanRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 활성 멤버십 플랜 한도의 메모리 스냅샷
+ * 한도 확인은 DB 없이 volatile 참조 하나만 읽고, 플랜이 바뀌면 커밋 직후 새 스냅샷으로 통째로 교체합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MembershipPlanRegistry {
+    
+    private final MembershipPlanRepository membershipPlanRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    
+    private volatile Map<MembershipType, PlanLimits> snapshot = Map.copyOf(defaults());
+    
+    public PlanLimits getLimits(MembershipType membershipType) {
+        return snapshot.get(membershipType);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+    
+    @PostConstruct
+    public void subscribe() {
+        // 이 노드의 변경은 커밋 직후, 다른 노드의 변경은 무효화 버스 수신 시 재구성
+        cacheInvalidationBus.subscribe(CacheNames.MEMBERSHIP_PLANS, invalidation -> rebuild());
+    }
+    
+    public synchronized void rebuild() {
+        Map<MembershipType, PlanLimits> rebuilt = defaults();
+        for (MembershipPlan plan : membershipPlanRepository.findByIsActiveTrue()) {
+            rebuilt.put(plan.getMembershipType(), PlanLimits.from(plan));
+        }
+        this.snapshot = Map.copyOf(rebuilt);
+        log.info("멤버십 플랜 한도 스냅샷 갱신: {}", rebuilt);
+    }
+    
+    private static Map<MembershipType, PlanLimits> defaults() {
+        Map<MembershipType, PlanLimits> limits = new EnumMap<>(MembershipType.class);
+        for (MembershipType membershipType : MembershipType.values()) {
+            limits.put(membershipType, PlanLimits.defaultsOf(membershipType));
+        }
+        return limits;
+    }
+}
@@ -2,6 +2,8 @@ package org.fr.farmranding.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.fr.farmranding.cache.CacheInvalidationBus;
+import org.fr.farmranding.cache.CacheNames;
 import org.fr.farmranding.common.exception.BusinessException;
 import org.fr.farmranding.common.code.FarmrandingResponseCode;
 import org.fr.farmranding.dto.membership.MembershipPlanCreateRequest;
@@ -13,6 +15,7 @@ import org.fr.farmranding.repository.MembershipPlanRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -22,12 +25,13 @@ import java.util.List;
 public class MembershipServiceImpl implements MembershipService {
     
     private final MembershipPlanRepository membershipPlanRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
     
     @Override
     public MembershipPlanResponse createMembershipPlan(MembershipPlanCreateRequest request) {
         // 동일한 멤버십 타입이 이미 존재하는지 확인
         if (membershipPlanRepository.existsByMembershipType(request.membershipType())) {
-            throw new BusinessException(FarmrandingResponseCode.INVALID_INPUT);
+            throw BusinessException.expected(FarmrandingResponseCode.INVALID_INPUT);
         }
         
         MembershipPlan plan = MembershipPlan.builder()
@@ -50,6 +54,7 @@ public class MembershipServiceImpl implements MembershipService {
                 .build();
         
         MembershipPlan savedPlan = membershipPlanRepository.save(plan);
+        cacheInvalidationBus.publishAfterCommit(CacheNames.MEMBERSHIP_PLANS, savedPlan.getId());
         log.info("멤버십 플랜 생성 완료: planId={}, membershipType={}", savedPlan.getId(), savedPlan.getMembershipType());
         
         return MembershipPlanResponse.from(savedPlan);
@@ -66,7 +71,7 @@ public class MembershipServiceImpl implements MembershipService {
     @Transactional(readOnly = true)
     public MembershipPlanResponse getMembershipPlanByType(MembershipType membershipType) {
         MembershipPlan plan = membershipPlanRepository.findActiveByMembershipType(membershipType)
-                .orElseThrow(() -> new BusinessException(FarmrandingResponseCode.USER_NOT_FOUND));
+                .orElseThrow(() -> BusinessException.expected(FarmrandingResponseCode.USER_NOT_FOUND));
         return MembershipPlanResponse.from(plan);
     }
     
@@ -92,7 +97,7 @@ public class MembershipServiceImpl implements MembershipService {
     @Transactional(readOnly = true)
     public MembershipPlanResponse getPopularPlan() {
         MembershipPlan plan = membershipPlanRepository.findByIsPopularTrue()
-                .orElseThrow(() -> new BusinessException(FarmrandingResponseCode.USER_NOT_FOUND));
+                .orElseThrow(() -> BusinessException.expected(FarmrandingResponseCode.USER_NOT_FOUND));
         return MembershipPlanResponse.from(plan);
     }
     
@@ -143,6 +148,7 @@ public class MembershipServiceImpl implements MembershipService {
         }
         
         MembershipPlan savedPlan = membershipPlanRepository.save(plan);
+        cacheInvalidationBus.publishAfterCommit(CacheNames.MEMBERSHIP_PLANS, planId);
         log.info("멤버십 플랜 수정 완료: planId={}", planId);
         
         return MembershipPlanResponse.from(savedPlan);
@@ -153,15 +159,18 @@ public class MembershipServiceImpl implements MembershipService {
         MembershipPlan plan = findPlanById(planId);
         
         membershipPlanRepository.delete(plan);
+        cacheInvalidationBus.publishAfterCommit(CacheNames.MEMBERSHIP_PLANS, planId);
         log.info("멤버십 플랜 삭제 완료: planId={}", planId);
     }
     
     @Override
     public MembershipPlanResponse togglePlanStatus(Long planId) {
-        MembershipPlan plan = findPlanById(planId);
-        
-        plan.updateStatus(!plan.getIsActive(), plan.getIsPopular(), plan.getSortOrder());
-        MembershipPlan savedPlan = membershipPlanRepository.save(plan);
+        // 읽고 저장하는 대신 DB에서 직접 반전 (동시 요청 간 갱신 유실 방지)
+        if (membershipPlanRepository.toggleActive(planId, LocalDateTime.now()) == 0) {
+            throw BusinessException.expected(FarmrandingResponseCode.USER_NOT_FOUND);
+        }
+        MembershipPlan savedPlan = findPlanById(planId);
+        cacheInvalidationBus.publishAfterCommit(CacheNames.MEMBERSHIP_PLANS, planId);
         
         log.info("멤버십 플랜 상태 변경 완료: planId={}, isActive={}", planId, savedPlan.getIsActive());
         return MembershipPlanResponse.from(savedPlan);
@@ -169,17 +178,12 @@ public class MembershipServiceImpl implements MembershipService {
     
     @Override
     public MembershipPlanResponse setPopularPlan(Long planId) {
-        // 기존 인기 플랜 해제
-        membershipPlanRepository.findByIsPopularTrue()
-                .ifPresent(existingPopular -> {
-                    existingPopular.updateStatus(existingPopular.getIsActive(), false, existingPopular.getSortOrder());
-                    membershipPlanRepository.save(existingPopular);
-                });
+        // 기존 인기 플랜 해제와 새 인기 플랜 설정을 한 문장으로 처리
+        membershipPlanRepository.switchPopularPlan(planId, LocalDateTime.now());
         
-        // 새로운 인기 플랜 설정
-        MembershipPlan plan = findPlanById(planId);
-        plan.updateStatus(plan.getIsActive(), true, plan.getSortOrder());
-        MembershipPlan savedPlan = membershipPlanRepository.save(plan);
+        // 대상 플랜이 없으면 예외로 롤백되어 기존 인기 플랜이 유지됨
+        MembershipPlan savedPlan = findPlanById(planId);
+        cacheInvalidationBus.publishAfterCommit(CacheNames.MEMBERSHIP_PLANS, planId);
         
         log.info("인기 플랜 설정 완료: planId={}", planId);
         return MembershipPlanResponse.from(savedPlan);
@@ -187,6 +191,6 @@ public class MembershipServiceImpl implements MembershipService {
     
     private MembershipPlan findPlanById(Long planId) {
         return membershipPlanRepository.findById(planId)
-                .orElseThrow(() -> new BusinessException(FarmrandingResponseCode.USER_NOT_FOUND));
+                .orElseThrow(() -> BusinessException.expected(FarmrandingResponseCode.USER_NOT_FOUND));
     }
 } 
\ No newline at end of file
@@ -0,0 +1,51 @@
+package org.fr.farmranding.service;
+
+import org.fr.farmranding.entity.membership.MembershipPlan;
+import org.fr.farmranding.entity.user.MembershipType;
+import org.fr.farmranding.entity.user.UsageType;
+
+/**
+ * 멤버십 플랜의 기능 한도 (불변)
+ * 음수 한도는 무제한으로 취급합니다.
+ */
+public record PlanLimits(
+        int aiBrandingLimit,
+        int pricingSuggestionLimit,
+        int projectStorageLimit
+) {
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+    
+    public static PlanLimits from(MembershipPlan plan) {
+        return new PlanLimits(
+                normalize(plan.getAiBrandingLimit()),
+                normalize(plan.getPricingSuggestionLimit()),
+                normalize(plan.getProjectStorageLimit())
+        );
+    }
+    
+    /**
+     * 활성 플랜이 없을 때 사용하는 기본 한도
+     */
+    public static PlanLimits defaultsOf(MembershipType membershipType) {
+        return new PlanLimits(
+                membershipType.getAiBrandingLimit(),
+                membershipType.getPricingSuggestionLimit(),
+                UNLIMITED
+        );
+    }
+    
+    public int limitOf(UsageType usageType) {
+        return switch (usageType) {
+            case AI_BRANDING -> aiBrandingLimit;
+            case PRICING_SUGGESTION -> pricingSuggestionLimit;
+        };
+    }
+    
+    public boolean isUnlimited(UsageType usageType) {
+        return limitOf(usageType) == UNLIMITED;
+    }
+    
+    private static int normalize(Integer limit) {
+        return limit == null || limit < 0 ? UNLIMITED : limit;
+    }
+}
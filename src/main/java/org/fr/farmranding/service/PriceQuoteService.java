@@ -1,10 +1,11 @@
 package org.fr.farmranding.service;
 
+import org.fr.farmranding.auth.UserPrincipal;
 import org.fr.farmranding.dto.pricequote.PriceQuoteCreateRequest;
 import org.fr.farmranding.dto.pricequote.PriceQuoteResponse;
+import org.fr.farmranding.dto.pricequote.PriceQuoteSummaryResponse;
 import org.fr.farmranding.dto.pricequote.PriceQuoteUpdateRequest;
 import org.fr.farmranding.entity.pricequote.PriceQuoteStatus;
-import org.fr.farmranding.entity.user.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -16,55 +17,55 @@ public interface PriceQuoteService {
     /**
      * 가격 견적 요청 생성
      */
-    PriceQuoteResponse createPriceQuote(PriceQuoteCreateRequest request, User currentUser);
+    PriceQuoteResponse createPriceQuote(PriceQuoteCreateRequest request, UserPrincipal currentUser);
     
     /**
      * 내 가격 견적 요청 목록 조회
      */
-    List<PriceQuoteResponse> getMyPriceQuotes(User currentUser);
+    List<PriceQuoteSummaryResponse> getMyPriceQuotes(UserPrincipal currentUser);
     
     /**
      * 내 가격 견적 요청 목록 조회 (페이징)
      */
-    Page<PriceQuoteResponse> getMyPriceQuotes(User currentUser, Pageable pageable);
+    Page<PriceQuoteSummaryResponse> getMyPriceQuotes(UserPrincipal currentUser, Pageable pageable);
     
     /**
      * 상태별 가격 견적 요청 목록 조회
      */
-    List<PriceQuoteResponse> getMyPriceQuotesByStatus(User currentUser, PriceQuoteStatus status);
+    List<PriceQuoteSummaryResponse> getMyPriceQuotesByStatus(UserPrincipal currentUser, PriceQuoteStatus status);
     
     /**
      * 가격 견적 요청 상세 조회
      */
-    PriceQuoteResponse getPriceQuote(Long priceQuoteId, User currentUser);
+    PriceQuoteResponse getPriceQuote(Long priceQuoteId, UserPrincipal currentUser);
     
     /**
      * 가격 견적 요청 수정
      */
-    PriceQuoteResponse updatePriceQuote(Long priceQuoteId, PriceQuoteUpdateRequest request, User currentUser);
+    PriceQuoteResponse updatePriceQuote(Long priceQuoteId, PriceQuoteUpdateRequest request, UserPrincipal currentUser);
     
     /**
      * 가격 견적 요청 삭제
      */
-    void deletePriceQuote(Long priceQuoteId, User currentUser);
+    void deletePriceQuote(Long priceQuoteId, UserPrincipal currentUser);
     
     /**
      * 가격 분석 시작
      */
-    PriceQuoteResponse startAnalysis(Long priceQuoteId, User currentUser);
+    PriceQuoteResponse startAnalysis(Long priceQuoteId, UserPrincipal currentUser);
     
     /**
      * 가격 분석 완료
      */
-    PriceQuoteResponse completeAnalysis(Long priceQuoteId, BigDecimal finalPrice, String analysisResult, User currentUser);
+    PriceQuoteResponse completeAnalysis(Long priceQuoteId, BigDecimal finalPrice, String analysisResult, UserPrincipal currentUser);
     
     /**
      * 가격 견적 요청 검색
      */
-    List<PriceQuoteResponse> searchPriceQuotes(String keyword, User currentUser);
+    List<PriceQuoteSummaryResponse> searchPriceQuotes(String keyword, UserPrincipal currentUser);
     
     /**
      * 최근 가격 견적 요청 조회
      */
-    List<PriceQuoteResponse> getRecentPriceQuotes(User currentUser, int limit);
+    List<PriceQuoteSummaryResponse> getRecentPriceQuotes(UserPrincipal currentUser, int limit);
 } 
\ No newline at end of file
@@ -2,23 +2,36 @@ package org.fr.farmranding.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.fr.farmranding.auth.UserPrincipal;
 import org.fr.farmranding.common.exception.BusinessException;
+import org.fr.farmranding.config.SearchProperties;
 import org.fr.farmranding.common.code.FarmrandingResponseCode;
 import org.fr.farmranding.dto.pricequote.PriceQuoteCreateRequest;
 import org.fr.farmranding.dto.pricequote.PriceQuoteResponse;
+import org.fr.farmranding.dto.pricequote.PriceQuoteSummaryResponse;
 import org.fr.farmranding.dto.pricequote.PriceQuoteUpdateRequest;
 import org.fr.farmranding.entity.pricequote.PriceQuoteRequest;
 import org.fr.farmranding.entity.pricequote.PriceQuoteStatus;
-import org.fr.farmranding.entity.user.User;
+import org.fr.farmranding.entity.user.UsageType;
 import org.fr.farmranding.repository.PriceQuoteRequestRepository;
+import org.fr.farmranding.repository.UserRepository;
+import org.fr.farmranding.search.SearchDocument;
+import org.fr.farmranding.search.SearchTarget;
+import org.fr.farmranding.search.TextSearchIndex;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -27,16 +40,28 @@ import java.util.List;
 public class PriceQuoteServiceImpl implements PriceQuoteService {
     
     private final PriceQuoteRequestRepository priceQuoteRequestRepository;
+    private final UserRepository userRepository;
+    private final QuotaLedgerService quotaLedgerService;
+    private final TextSearchIndex textSearchIndex;
+    private final SearchProperties searchProperties;
+    private final TransactionTemplate transactionTemplate;
     
     @Override
-    public PriceQuoteResponse createPriceQuote(PriceQuoteCreateRequest request, User currentUser) {
-        // 멤버십 사용량 제한 확인
-        if (!currentUser.canUsePricingSuggestion()) {
-            throw new BusinessException(FarmrandingResponseCode.PRICING_USAGE_LIMIT_EXCEEDED);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PriceQuoteResponse createPriceQuote(PriceQuoteCreateRequest request, UserPrincipal currentUser) {
+        // 멤버십 사용량 차감 (생성 트랜잭션을 열기 전에 별도 트랜잭션에서 커밋, 생성이 실패하면 환불)
+        long usageBucketIndex = quotaLedgerService.consume(currentUser, UsageType.PRICING_SUGGESTION);
+        try {
+            return transactionTemplate.execute(status -> savePriceQuote(request, currentUser));
+        } catch (RuntimeException e) {
+            quotaLedgerService.refund(currentUser.getId(), UsageType.PRICING_SUGGESTION, usageBucketIndex);
+            throw e;
         }
-        
+    }
+    
+    private PriceQuoteResponse savePriceQuote(PriceQuoteCreateRequest request, UserPrincipal currentUser) {
         PriceQuoteRequest priceQuote = PriceQuoteRequest.builder()
-                .user(currentUser)
+                .user(userRepository.getReferenceById(currentUser.getId()))
                 .cropName(request.cropName())
                 .variety(request.variety())
                 .grade(request.grade())
@@ -48,9 +73,7 @@ public class PriceQuoteServiceImpl implements PriceQuoteService {
                 .build();
         
         PriceQuoteRequest savedPriceQuote = priceQuoteRequestRepository.save(priceQuote);
-        
-        // 사용량 증가
-        currentUser.incrementPricingSuggestionUsage();
+        textSearchIndex.index(toSearchDocument(savedPriceQuote, currentUser));
         
         log.info("가격 견적 요청 생성 완료 - 사용자: {}, ID: {}", currentUser.getId(), savedPriceQuote.getId());
         
@@ -59,43 +82,36 @@ public class PriceQuoteServiceImpl implements PriceQuoteService {
     
     @Override
     @Transactional(readOnly = true)
-    public List<PriceQuoteResponse> getMyPriceQuotes(User currentUser) {
-        List<PriceQuoteRequest> priceQuotes = priceQuoteRequestRepository.findByUserId(currentUser.getId());
-        return priceQuotes.stream()
-                .map(PriceQuoteResponse::from)
-                .toList();
+    public List<PriceQuoteSummaryResponse> getMyPriceQuotes(UserPrincipal currentUser) {
+        return priceQuoteRequestRepository.findSummariesByUserId(currentUser.getId());
     }
     
     @Override
     @Transactional(readOnly = true)
-    public Page<PriceQuoteResponse> getMyPriceQuotes(User currentUser, Pageable pageable) {
-        Page<PriceQuoteRequest> priceQuotes = priceQuoteRequestRepository.findByUserId(currentUser.getId(), pageable);
-        return priceQuotes.map(PriceQuoteResponse::from);
+    public Page<PriceQuoteSummaryResponse> getMyPriceQuotes(UserPrincipal currentUser, Pageable pageable) {
+        return priceQuoteRequestRepository.findSummariesByUserId(currentUser.getId(), pageable);
     }
     
     @Override
     @Transactional(readOnly = true)
-    public List<PriceQuoteResponse> getMyPriceQuotesByStatus(User currentUser, PriceQuoteStatus status) {
-        List<PriceQuoteRequest> priceQuotes = priceQuoteRequestRepository.findByUserIdAndStatus(currentUser.getId(), status);
-        return priceQuotes.stream()
-                .map(PriceQuoteResponse::from)
-                .toList();
+    public List<PriceQuoteSummaryResponse> getMyPriceQuotesByStatus(UserPrincipal currentUser, PriceQuoteStatus status) {
+        return priceQuoteRequestRepository.findSummariesByUserIdAndStatus(currentUser.getId(), status);
     }
     
     @Override
     @Transactional(readOnly = true)
-    public PriceQuoteResponse getPriceQuote(Long priceQuoteId, User currentUser) {
+    public PriceQuoteResponse getPriceQuote(Long priceQuoteId, UserPrincipal currentUser) {
         PriceQuoteRequest priceQuote = findPriceQuoteByIdAndUser(priceQuoteId, currentUser);
         return PriceQuoteResponse.from(priceQuote);
     }
     
     @Override
-    public PriceQuoteResponse updatePriceQuote(Long priceQuoteId, PriceQuoteUpdateRequest request, User currentUser) {
+    public PriceQuoteResponse updatePriceQuote(Long priceQuoteId, PriceQuoteUpdateRequest request, UserPrincipal currentUser) {
         PriceQuoteRequest priceQuote = findPriceQuoteByIdAndUser(priceQuoteId, currentUser);
         
         // 수정 가능한 상태인지 확인
         if (!priceQuote.canEdit()) {
-            throw new BusinessException(FarmrandingResponseCode.PRICE_QUOTE_CANNOT_EDIT);
+            throw BusinessException.expected(FarmrandingResponseCode.PRICE_QUOTE_CANNOT_EDIT);
         }
         
         priceQuote.updateBasicInfo(
@@ -106,26 +122,29 @@ public class PriceQuoteServiceImpl implements PriceQuoteService {
                 request.estimatedPrice() != null ? request.estimatedPrice() : priceQuote.getEstimatedPrice()
         );
         
+        textSearchIndex.index(toSearchDocument(priceQuote, currentUser));
+        
         log.info("가격 견적 요청 수정 완료 - 사용자: {}, ID: {}", currentUser.getId(), priceQuoteId);
         
         return PriceQuoteResponse.from(priceQuote);
     }
     
     @Override
-    public void deletePriceQuote(Long priceQuoteId, User currentUser) {
+    public void deletePriceQuote(Long priceQuoteId, UserPrincipal currentUser) {
         PriceQuoteRequest priceQuote = findPriceQuoteByIdAndUser(priceQuoteId, currentUser);
         
         priceQuoteRequestRepository.delete(priceQuote);
+        textSearchIndex.remove(SearchTarget.PRICE_QUOTE, priceQuoteId);
         
         log.info("가격 견적 요청 삭제 완료 - 사용자: {}, ID: {}", currentUser.getId(), priceQuoteId);
     }
     
     @Override
-    public PriceQuoteResponse startAnalysis(Long priceQuoteId, User currentUser) {
+    public PriceQuoteResponse startAnalysis(Long priceQuoteId, UserPrincipal currentUser) {
         PriceQuoteRequest priceQuote = findPriceQuoteByIdAndUser(priceQuoteId, currentUser);
         
         if (!priceQuote.canEdit()) {
-            throw new BusinessException(FarmrandingResponseCode.PRICE_QUOTE_CANNOT_ANALYZE);
+            throw BusinessException.expected(FarmrandingResponseCode.PRICE_QUOTE_CANNOT_ANALYZE);
         }
         
         priceQuote.updateStatus(PriceQuoteStatus.IN_PROGRESS);
@@ -138,7 +157,7 @@ public class PriceQuoteServiceImpl implements PriceQuoteService {
     }
     
     @Override
-    public PriceQuoteResponse completeAnalysis(Long priceQuoteId, BigDecimal finalPrice, String analysisResult, User currentUser) {
+    public PriceQuoteResponse completeAnalysis(Long priceQuoteId, BigDecimal finalPrice, String analysisResult, UserPrincipal currentUser) {
         PriceQuoteRequest priceQuote = findPriceQuoteByIdAndUser(priceQuoteId, currentUser);
         
         priceQuote.completeAnalysis(finalPrice, analysisResult);
@@ -150,26 +169,40 @@ public class PriceQuoteServiceImpl implements PriceQuoteService {
     
     @Override
     @Transactional(readOnly = true)
-    public List<PriceQuoteResponse> searchPriceQuotes(String keyword, User currentUser) {
-        List<PriceQuoteRequest> priceQuotes = priceQuoteRequestRepository.findByUserIdAndCropNameContaining(currentUser.getId(), keyword);
-        return priceQuotes.stream()
-                .map(PriceQuoteResponse::from)
+    public List<PriceQuoteSummaryResponse> searchPriceQuotes(String keyword, UserPrincipal currentUser) {
+        if (keyword == null || keyword.isBlank()) {
+            return List.of();
+        }
+        
+        List<Long> ids = textSearchIndex.search(SearchTarget.PRICE_QUOTE, currentUser.getId(), keyword,
+                searchProperties.getMaxResults());
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        
+        // 검색 색인의 관련도 순서 유지
+        Map<Long, PriceQuoteSummaryResponse> summaries = priceQuoteRequestRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(PriceQuoteSummaryResponse::id, Function.identity()));
+        return ids.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
                 .toList();
     }
     
     @Override
     @Transactional(readOnly = true)
-    public List<PriceQuoteResponse> getRecentPriceQuotes(User currentUser, int limit) {
-        Pageable pageable = PageRequest.of(0, limit);
-        List<PriceQuoteRequest> priceQuotes = priceQuoteRequestRepository.findRecentByUserId(currentUser.getId(), pageable);
-        return priceQuotes.stream()
-                .map(PriceQuoteResponse::from)
-                .toList();
+    public List<PriceQuoteSummaryResponse> getRecentPriceQuotes(UserPrincipal currentUser, int limit) {
+        return priceQuoteRequestRepository.findRecentSummariesByUserId(currentUser.getId(), PageRequest.of(0, limit));
     }
     
     // 내부 메서드
-    private PriceQuoteRequest findPriceQuoteByIdAndUser(Long priceQuoteId, User currentUser) {
+    private PriceQuoteRequest findPriceQuoteByIdAndUser(Long priceQuoteId, UserPrincipal currentUser) {
         return priceQuoteRequestRepository.findByIdAndUserId(priceQuoteId, currentUser.getId())
-                .orElseThrow(() -> new BusinessException(FarmrandingResponseCode.PRICE_QUOTE_NOT_FOUND));
+                .orElseThrow(() -> BusinessException.expected(FarmrandingResponseCode.PRICE_QUOTE_NOT_FOUND));
+    }
+    
+    private static SearchDocument toSearchDocument(PriceQuoteRequest priceQuote, UserPrincipal currentUser) {
+        return new SearchDocument(SearchTarget.PRICE_QUOTE, priceQuote.getId(), currentUser.getId(),
+                List.of(priceQuote.getCropName()));
     }
-} 
\ No newline at end of file
+}
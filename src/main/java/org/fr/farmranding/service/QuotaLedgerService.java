@@ -0,0 +1,35 @@
+package org.fr.farmranding.service;
+
+import org.fr.farmranding.auth.UserPrincipal;
+import org.fr.farmranding.entity.user.UsageType;
+
+public interface QuotaLedgerService {
+    
+    /**
+     * 사용량 1 차감 (한도 초과 시 BusinessException)
+     * 트랜잭션 밖에서 호출해야 하며, 차감 이후 작업이 실패하면 호출한 쪽이 refund로 취소합니다.
+     *
+     * @return 차감된 사용량 구간 (나중에 차감을 취소할 때 사용)
+     */
+    long consume(UserPrincipal user, UsageType usageType);
+    
+    /**
+     * 커밋된 차감 1건 취소 (생성 트랜잭션이나 비동기 작업이 실패한 경우)
+     */
+    void refund(Long userId, UsageType usageType, long bucketIndex);
+    
+    /**
+     * 현재 기간 창의 사용량 (아직 DB에 반영되지 않은 사용량 포함)
+     */
+    int getWindowCount(Long userId, UsageType usageType);
+    
+    /**
+     * 사용자의 미반영 사용량 폐기 (사용량 초기화 시)
+     */
+    void discardPending(Long userId);
+    
+    /**
+     * 미반영 사용량을 DB에 일괄 반영
+     */
+    void flush();
+}
@@ -0,0 +1,185 @@
+package org.fr.farmranding.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.fr.farmranding.auth.UserPrincipal;
+import org.fr.farmranding.common.code.FarmrandingResponseCode;
+import org.fr.farmranding.common.exception.BusinessException;
+import org.fr.farmranding.entity.user.UsageType;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용량 원장
+ * 한도가 있는 사용량은 UsageWindowQuota가 기간 창 기준으로 정확히 차감하고 바로 커밋해
+ * users 행 잠금을 생성 트랜잭션 동안 붙잡지 않습니다.
+ * 차감은 생성 트랜잭션을 열기 전에 호출해 요청당 커넥션을 하나만 쓰고, 생성이 실패하면 호출한 쪽이 환불합니다.
+ * 무제한 사용량은 메모리에서 사용자/구간별로 누적했다가 주기적으로 일괄 반영하고,
+ * 기동 시 users 누적 통계가 usage_buckets 합계보다 작지 않도록 맞춥니다.
+ */
+@Slf4j
+@Service
+public class QuotaLedgerServiceImpl implements QuotaLedgerService {
+    
+    private static final String BUCKET_UPSERT_SQL = "INSERT INTO usage_buckets "
+            + "(user_id, usage_type, bucket_index, usage_count, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, NOW(6), NOW(6)) "
+            + "ON DUPLICATE KEY UPDATE usage_count = usage_count + VALUES(usage_count), updated_at = NOW(6)";
+    
+    private static final String RECONCILE_SQL_TEMPLATE = "UPDATE users u "
+            + "JOIN (SELECT user_id, SUM(usage_count) AS total FROM usage_buckets WHERE usage_type = ? GROUP BY user_id) b "
+            + "ON b.user_id = u.id "
+            + "SET u.%1$s = b.total WHERE u.%1$s < b.total";
+    
+    private final UsageWindowQuota usageWindowQuota;
+    private final MembershipPlanRegistry membershipPlanRegistry;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    
+    // 해시 버킷 단위로 잠기므로 사용자별 누적이 서로 경합하지 않음
+    private final ConcurrentHashMap<CounterKey, Long> pendingCounts = new ConcurrentHashMap<>();
+    
+    public QuotaLedgerServiceImpl(UsageWindowQuota usageWindowQuota, MembershipPlanRegistry membershipPlanRegistry,
+                                  JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.usageWindowQuota = usageWindowQuota;
+        this.membershipPlanRegistry = membershipPlanRegistry;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    @Override
+    public long consume(UserPrincipal user, UsageType usageType) {
+        // 바깥 트랜잭션이 있으면 요청당 커넥션 두 개를 잡게 되고 롤백 시 환불 책임도 흐려짐
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("사용량 차감은 트랜잭션 밖에서 호출해야 합니다.");
+        }
+        
+        long bucketIndex = usageWindowQuota.currentBucket();
+        
+        // 무제한 멤버십은 강등 경로가 없으므로 토큰의 멤버십으로 판단해도 안전
+        if (membershipPlanRegistry.getLimits(user.getMembershipType()).isUnlimited(usageType)) {
+            pendingCounts.merge(new CounterKey(user.getId(), usageType, bucketIndex), 1L, Long::sum);
+            return bucketIndex;
+        }
+        
+        switch (usageWindowQuota.tryConsume(user.getId(), usageType)) {
+            case USER_NOT_FOUND -> throw BusinessException.expected(FarmrandingResponseCode.USER_NOT_FOUND);
+            case LIMIT_EXCEEDED -> throw BusinessException.expected(usageType.getLimitExceededCode());
+            case ALLOWED -> log.debug("사용량 차감: userId={}, usageType={}", user.getId(), usageType);
+        }
+        return bucketIndex;
+    }
+    
+    @Override
+    public void refund(Long userId, UsageType usageType, long bucketIndex) {
+        // 무제한 사용량이 아직 반영 전이면 메모리 누적분에서 되돌리고 DB는 건드리지 않음
+        boolean[] takenBack = new boolean[1];
+        pendingCounts.computeIfPresent(new CounterKey(userId, usageType, bucketIndex), (key, count) -> {
+            takenBack[0] = true;
+            return count > 1 ? count - 1 : null;
+        });
+        
+        if (!takenBack[0]) {
+            usageWindowQuota.refund(userId, usageType, bucketIndex);
+        }
+        log.debug("사용량 차감 취소: userId={}, usageType={}, pending={}", userId, usageType, takenBack[0]);
+    }
+    
+    @Override
+    public int getWindowCount(Long userId, UsageType usageType) {
+        // 기간 창에 속한 구간 키만 직접 조회 (최대 구간 수만큼)
+        long expiredUpTo = usageWindowQuota.expiredUpTo();
+        long current = usageWindowQuota.currentBucket();
+        long pending = 0;
+        for (long bucketIndex = expiredUpTo + 1; bucketIndex <= current; bucketIndex++) {
+            Long count = pendingCounts.get(new CounterKey(userId, usageType, bucketIndex));
+            if (count != null) {
+                pending += count;
+            }
+        }
+        return (int) Math.min(Integer.MAX_VALUE, usageWindowQuota.countInWindow(userId, usageType) + pending);
+    }
+    
+    @Override
+    public void discardPending(Long userId) {
+        pendingCounts.keySet().removeIf(key -> key.userId().equals(userId));
+        usageWindowQuota.invalidate(userId);
+    }
+    
+    @Override
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${farmranding.quota.flush-interval-ms:5000}")
+    public void flush() {
+        if (pendingCounts.isEmpty()) {
+            return;
+        }
+        
+        Map<UsageType, List<CounterDelta>> batches = new EnumMap<>(UsageType.class);
+        for (CounterKey key : pendingCounts.keySet()) {
+            // remove는 원자적이므로 이후 증가분은 새 항목으로 누적되어 다음 주기에 반영
+            Long delta = pendingCounts.remove(key);
+            if (delta != null && delta > 0) {
+                batches.computeIfAbsent(key.usageType(), type -> new ArrayList<>())
+                        .add(new CounterDelta(key, delta));
+            }
+        }
+        
+        batches.forEach((usageType, deltas) -> {
+            String column = usageType.getColumnName();
+            try {
+                // 누적 통계와 구간이 함께 반영되거나 함께 재시도되도록 한 트랜잭션으로 묶음
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.batchUpdate("UPDATE users SET " + column + " = " + column + " + ? WHERE id = ?",
+                            deltas.stream()
+                                    .map(d -> new Object[]{d.delta(), d.key().userId()})
+                                    .toList());
+                    jdbcTemplate.batchUpdate(BUCKET_UPSERT_SQL,
+                            deltas.stream()
+                                    .map(d -> new Object[]{d.key().userId(), usageType.name(), d.key().bucketIndex(), d.delta()})
+                                    .toList());
+                });
+                deltas.forEach(d -> usageWindowQuota.invalidate(d.key().userId(), usageType));
+                log.debug("사용량 일괄 반영: usageType={}, entries={}", usageType, deltas.size());
+            } catch (RuntimeException e) {
+                // 반영 실패 시 다음 주기에 재시도
+                deltas.forEach(d -> pendingCounts.merge(d.key(), d.delta(), Long::sum));
+                log.warn("사용량 일괄 반영 실패: usageType={}, entries={}, error={}",
+                        usageType, deltas.size(), e.getMessage());
+            }
+        });
+    }
+    
+    /**
+     * 기동 시 누적 통계 보정
+     * 이전 프로세스가 반영 도중 종료되었거나 예전 방식으로 따로 반영된 경우 users 컬럼이 구간 합계보다 작을 수 있어
+     * 적어도 현재 남아 있는 구간 합계 이상이 되도록 끌어올립니다. (통계만 고치며 한도 판정에는 영향 없음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        for (UsageType usageType : UsageType.values()) {
+            try {
+                int updated = jdbcTemplate.update(RECONCILE_SQL_TEMPLATE.formatted(usageType.getColumnName()),
+                        usageType.name());
+                log.info("사용량 누적 통계 보정 완료: usageType={}, users={}", usageType, updated);
+            } catch (RuntimeException e) {
+                log.warn("사용량 누적 통계 보정 실패: usageType={}, error={}", usageType, e.getMessage());
+            }
+        }
+    }
+    
+    private record CounterKey(Long userId, UsageType usageType, long bucketIndex) {}
+    
+    private record CounterDelta(CounterKey key, long delta) {}
+}
@@ -0,0 +1,11 @@
+package org.fr.farmranding.service;
+
+import org.fr.farmranding.dto.response.TokenResponse;
+
+public interface RefreshTokenService {
+    
+    /**
+     * 리프레시 토큰으로 새 토큰 발급 (사용한 토큰은 폐기되어 한 번만 사용 가능)
+     */
+    TokenResponse refresh(String refreshToken);
+}
@@ -0,0 +1,65 @@
+package org.fr.farmranding.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.fr.farmranding.auth.UserPrincipal;
+import org.fr.farmranding.common.code.FarmrandingResponseCode;
+import org.fr.farmranding.common.exception.BusinessException;
+import org.fr.farmranding.config.JwtProperties;
+import org.fr.farmranding.dto.response.TokenResponse;
+import org.fr.farmranding.jwt.JwtService;
+import org.fr.farmranding.jwt.RefreshTokenClaims;
+import org.fr.farmranding.jwt.TokenRevocationStore;
+import org.fr.farmranding.repository.UserRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+
+/**
+ * 리프레시 토큰 회전
+ * 폐기 기록은 각각 즉시 커밋되어야 하므로 트랜잭션으로 묶지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+    
+    private final JwtService jwtService;
+    private final JwtProperties jwtProperties;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final UserRepository userRepository;
+    
+    @Override
+    public TokenResponse refresh(String refreshToken) {
+        RefreshTokenClaims claims = jwtService.parseRefreshToken(refreshToken);
+        
+        if (tokenRevocationStore.isFamilyRevoked(claims.familyId())) {
+            throw BusinessException.expected(FarmrandingResponseCode.REFRESH_TOKEN_REVOKED);
+        }
+        
+        // 이미 사용된 토큰이 다시 들어오면 탈취로 보고 패밀리 전체를 폐기
+        if (!tokenRevocationStore.markUsed(claims.tokenId(), claims.userId(), claims.expiresAt())) {
+            revokeFamily(claims);
+            throw BusinessException.expected(FarmrandingResponseCode.REFRESH_TOKEN_REUSED);
+        }
+        
+        // 멤버십 변경이 새 토큰에 반영되도록 최신 사용자 정보로 발급
+        UserPrincipal user = userRepository.findById(claims.userId())
+                .map(UserPrincipal::from)
+                .orElseThrow(() -> BusinessException.expected(FarmrandingResponseCode.USER_NOT_FOUND));
+        
+        log.debug("리프레시 토큰 회전: userId={}, familyId={}", user.getId(), claims.familyId());
+        return new TokenResponse(
+                jwtService.generateAccessToken(user),
+                jwtService.generateRefreshToken(user, claims.familyId())
+        );
+    }
+    
+    private void revokeFamily(RefreshTokenClaims claims) {
+        // 패밀리의 마지막 토큰이 만료될 때까지 기록 유지
+        Instant familyExpiresAt = Instant.now().plusMillis(jwtProperties.getRefreshTokenExpiration());
+        tokenRevocationStore.revokeFamily(claims.familyId(), claims.userId(), familyExpiresAt);
+        log.warn("리프레시 토큰 재사용 감지, 토큰 패밀리 폐기: userId={}, familyId={}",
+                claims.userId(), claims.familyId());
+    }
+}
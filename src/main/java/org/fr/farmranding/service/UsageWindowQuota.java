@@ -0,0 +1,207 @@
+package org.fr.farmranding.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.fr.farmranding.config.QuotaProperties;
+import org.fr.farmranding.entity.user.MembershipType;
+import org.fr.farmranding.entity.user.UsageBucket;
+import org.fr.farmranding.entity.user.UsageType;
+import org.fr.farmranding.repository.UsageBucketRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 기간 창(sliding window) 사용량 한도
+ * 사용량을 고정 길이 구간별로 usage_buckets에 기록하고, 한도는 최근 N개 구간의 합으로 판정합니다.
+ * 이벤트 로그를 훑지 않고 구간 수만큼의 행/배열 칸만 보면 되므로 확인 비용은 O(구간 수)입니다.
+ * 조회용으로 사용자별 링 배열을 메모리에 두고, 차감은 항상 DB에서 사용자 행을 잠근 뒤 정확히 판정합니다.
+ */
+@Slf4j
+@Component
+public class UsageWindowQuota {
+    
+    public enum ConsumeResult {
+        ALLOWED, LIMIT_EXCEEDED, USER_NOT_FOUND
+    }
+    
+    private final UsageBucketRepository usageBucketRepository;
+    private final MembershipPlanRegistry membershipPlanRegistry;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNewTransaction;
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final long cacheTtlNanos;
+    private final int maxCachedWindows;
+    
+    private final ConcurrentHashMap<WindowKey, UsageRing> rings = new ConcurrentHashMap<>();
+    
+    public UsageWindowQuota(UsageBucketRepository usageBucketRepository,
+                            MembershipPlanRegistry membershipPlanRegistry,
+                            JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            QuotaProperties quotaProperties) {
+        this.usageBucketRepository = usageBucketRepository;
+        this.membershipPlanRegistry = membershipPlanRegistry;
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        
+        QuotaProperties.Window window = quotaProperties.getWindow();
+        this.bucketMillis = window.getBucketDuration().toMillis();
+        this.bucketCount = window.getBucketCount();
+        this.cacheTtlNanos = window.getCacheTtl().toNanos();
+        this.maxCachedWindows = window.getMaxCachedWindows();
+    }
+    
+    public long currentBucket() {
+        return System.currentTimeMillis() / bucketMillis;
+    }
+    
+    /**
+     * 지금 기간 창을 벗어난 마지막 구간 (이 구간 이하는 한도 판정에 쓰이지 않음)
+     */
+    public long expiredUpTo() {
+        return currentBucket() - bucketCount;
+    }
+    
+    /**
+     * 현재 기간 창의 사용량 (메모리 링 배열 우선, 오래되었으면 DB에서 다시 읽음)
+     */
+    public int countInWindow(Long userId, UsageType usageType) {
+        long current = currentBucket();
+        WindowKey key = new WindowKey(userId, usageType);
+        UsageRing ring = rings.get(key);
+        if (ring == null || ring.isStale(cacheTtlNanos)) {
+            ring = load(userId, usageType, current);
+            cache(key, ring);
+        }
+        return ring.sum(current);
+    }
+    
+    /**
+     * 한도 내에서 사용량 1 차감
+     * 별도 트랜잭션에서 사용자 행을 잠그고 창 합계를 확인한 뒤 현재 구간을 증가시키고 바로 커밋합니다.
+     */
+    public ConsumeResult tryConsume(Long userId, UsageType usageType) {
+        long current = currentBucket();
+        WindowKey key = new WindowKey(userId, usageType);
+        
+        ConsumeOutcome outcome = requiresNewTransaction.execute(status -> {
+            // 같은 사용자의 동시 차감을 직렬화 (멤버십도 최신 값으로 확인)
+            List<String> membership = jdbcTemplate.queryForList(
+                    "SELECT membership_type FROM users WHERE id = ? FOR UPDATE", String.class, userId);
+            if (membership.isEmpty()) {
+                return new ConsumeOutcome(ConsumeResult.USER_NOT_FOUND, null);
+            }
+            
+            int limit = membershipPlanRegistry.getLimits(MembershipType.valueOf(membership.get(0))).limitOf(usageType);
+            UsageRing ring = load(userId, usageType, current);
+            if (ring.sum(current) >= limit) {
+                return new ConsumeOutcome(ConsumeResult.LIMIT_EXCEEDED, ring);
+            }
+            
+            usageBucketRepository.increment(userId, usageType.name(), current, 1);
+            String column = usageType.getColumnName();
+            jdbcTemplate.update("UPDATE users SET " + column + " = " + column + " + 1 WHERE id = ?", userId);
+            ring.add(current, 1);
+            return new ConsumeOutcome(ConsumeResult.ALLOWED, ring);
+        });
+        
+        if (outcome.ring() != null) {
+            cache(key, outcome.ring());
+        }
+        return outcome.result();
+    }
+    
+    /**
+     * 차감 취소 (차감 후 호출한 쪽 트랜잭션이 롤백된 경우)
+     */
+    public void refund(Long userId, UsageType usageType, long bucketIndex) {
+        requiresNewTransaction.executeWithoutResult(status -> {
+            usageBucketRepository.decrement(userId, usageType, bucketIndex);
+            String column = usageType.getColumnName();
+            jdbcTemplate.update("UPDATE users SET " + column + " = GREATEST(" + column + " - 1, 0) WHERE id = ?",
+                    userId);
+        });
+        invalidate(userId, usageType);
+    }
+    
+    /**
+     * 메모리 링 배열 무효화 (DB에 직접 반영한 경우)
+     */
+    public void invalidate(Long userId, UsageType usageType) {
+        rings.remove(new WindowKey(userId, usageType));
+    }
+    
+    public void invalidate(Long userId) {
+        for (UsageType usageType : UsageType.values()) {
+            invalidate(userId, usageType);
+        }
+    }
+    
+    private UsageRing load(Long userId, UsageType usageType, long current) {
+        UsageRing ring = new UsageRing(bucketCount);
+        for (UsageBucket bucket : usageBucketRepository.findWindow(userId, usageType, current - bucketCount)) {
+            ring.add(bucket.getBucketIndex(), bucket.getUsageCount());
+        }
+        return ring;
+    }
+    
+    private void cache(WindowKey key, UsageRing ring) {
+        // 상한을 넘으면 통째로 비움 (다음 조회 때 DB에서 다시 채움)
+        if (rings.size() >= maxCachedWindows) {
+            rings.clear();
+        }
+        rings.put(key, ring);
+    }
+    
+    private record WindowKey(Long userId, UsageType usageType) {}
+    
+    private record ConsumeOutcome(ConsumeResult result, UsageRing ring) {}
+    
+    /**
+     * 구간 수 크기의 링 배열 (칸 = bucketIndex % 구간 수)
+     */
+    private static final class UsageRing {
+        
+        private final long[] bucketIndexes;
+        private final int[] counts;
+        private final long loadedAtNanos = System.nanoTime();
+        
+        UsageRing(int size) {
+            this.bucketIndexes = new long[size];
+            this.counts = new int[size];
+            Arrays.fill(bucketIndexes, Long.MIN_VALUE);
+        }
+        
+        synchronized void add(long bucketIndex, int delta) {
+            int slot = (int) Math.floorMod(bucketIndex, (long) counts.length);
+            if (bucketIndexes[slot] != bucketIndex) {
+                bucketIndexes[slot] = bucketIndex;
+                counts[slot] = 0;
+            }
+            counts[slot] = Math.max(0, counts[slot] + delta);
+        }
+        
+        synchronized int sum(long currentBucket) {
+            long windowStart = currentBucket - counts.length;
+            long sum = 0;
+            for (int i = 0; i < counts.length; i++) {
+                if (bucketIndexes[i] > windowStart && bucketIndexes[i] <= currentBucket) {
+                    sum += counts[i];
+                }
+            }
+            return (int) Math.min(Integer.MAX_VALUE, sum);
+        }
+        
+        boolean isStale(long ttlNanos) {
+            return System.nanoTime() - loadedAtNanos > ttlNanos;
+        }
+    }
+}
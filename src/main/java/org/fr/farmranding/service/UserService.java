@@ -5,14 +5,13 @@ import org.fr.farmranding.dto.response.UserResponse;
 import org.fr.farmranding.dto.user.UserProfileResponse;
 import org.fr.farmranding.dto.user.UserProfileUpdateRequest;
 import org.fr.farmranding.dto.user.UserUsageResponse;
-import org.fr.farmranding.entity.user.User;
 
 public interface UserService {
     
     /**
      * 신규 유저 정보 저장 (OAuth2 로그인 후)
      */
-    UserResponse completeSignup(User currentUser, UserSignupRequest request);
+    UserResponse completeSignup(Long userId, UserSignupRequest request);
     
     /**
      * 사용자 프로필 조회
@@ -35,17 +34,7 @@ public interface UserService {
     UserProfileResponse upgradeToProMembership(Long userId);
     
     /**
-     * AI 브랜딩 사용량 증가
-     */
-    void incrementAiBrandingUsage(Long userId);
-    
-    /**
-     * 가격 제안 사용량 증가
-     */
-    void incrementPricingSuggestionUsage(Long userId);
-    
-    /**
-     * 사용량 초기화 (월간 리셋용)
+     * 사용량 초기화 (기간 창 사용량만 비우고 누적 통계는 유지)
      */
     void resetUsageCounts(Long userId);
     
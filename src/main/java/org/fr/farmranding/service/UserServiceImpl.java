@@ -9,7 +9,9 @@ import org.fr.farmranding.dto.response.UserResponse;
 import org.fr.farmranding.dto.user.UserProfileResponse;
 import org.fr.farmranding.dto.user.UserProfileUpdateRequest;
 import org.fr.farmranding.dto.user.UserUsageResponse;
+import org.fr.farmranding.entity.user.UsageType;
 import org.fr.farmranding.entity.user.User;
+import org.fr.farmranding.repository.UsageBucketRepository;
 import org.fr.farmranding.repository.UserRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,15 +23,20 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserServiceImpl implements UserService {
     
     private final UserRepository userRepository;
+    private final UsageBucketRepository usageBucketRepository;
+    private final QuotaLedgerService quotaLedgerService;
+    private final MembershipPlanRegistry membershipPlanRegistry;
     
     @Override
-    public UserResponse completeSignup(User currentUser, UserSignupRequest request) {
+    public UserResponse completeSignup(Long userId, UserSignupRequest request) {
+        User user = findUserById(userId);
+        
         // 사용자 이름 업데이트
-        currentUser.updateProfile(currentUser.getName(), request.farmName(), request.location());
+        user.updateProfile(user.getName(), request.farmName(), request.location());
         
-        User savedUser = userRepository.save(currentUser);
+        User savedUser = userRepository.save(user);
         log.info("신규 유저 정보 저장 완료: userId={}, name={}, farmName={}", 
-                currentUser.getId(), request.name(), request.farmName());
+                userId, request.name(), request.farmName());
         
         return UserResponse.from(savedUser);
     }
@@ -58,7 +65,13 @@ public class UserServiceImpl implements UserService {
     @Transactional(readOnly = true)
     public UserUsageResponse getUserUsage(Long userId) {
         User user = findUserById(userId);
-        return UserUsageResponse.from(user);
+        // 한도는 누적 사용량이 아닌 현재 기간 창 기준
+        return UserUsageResponse.from(
+                user,
+                membershipPlanRegistry.getLimits(user.getMembershipType()),
+                quotaLedgerService.getWindowCount(userId, UsageType.AI_BRANDING),
+                quotaLedgerService.getWindowCount(userId, UsageType.PRICING_SUGGESTION)
+        );
     }
     
     @Override
@@ -66,7 +79,7 @@ public class UserServiceImpl implements UserService {
         User user = findUserById(userId);
         
         if (user.getMembershipType().isPro()) {
-            throw new BusinessException(FarmrandingResponseCode.ALREADY_PRO_MEMBERSHIP);
+            throw BusinessException.expected(FarmrandingResponseCode.ALREADY_PRO_MEMBERSHIP);
         }
         
         user.upgradeToProMembership();
@@ -77,40 +90,12 @@ public class UserServiceImpl implements UserService {
         return UserProfileResponse.from(savedUser);
     }
     
-    @Override
-    public void incrementAiBrandingUsage(Long userId) {
-        User user = findUserById(userId);
-        
-        if (!user.canUseAiBranding()) {
-            throw new BusinessException(FarmrandingResponseCode.AI_BRANDING_USAGE_LIMIT_EXCEEDED);
-        }
-        
-        user.incrementAiBrandingUsage();
-        userRepository.save(user);
-        
-        log.info("AI 브랜딩 사용량 증가: userId={}, count={}", userId, user.getAiBrandingUsageCount());
-    }
-    
-    @Override
-    public void incrementPricingSuggestionUsage(Long userId) {
-        User user = findUserById(userId);
-        
-        if (!user.canUsePricingSuggestion()) {
-            throw new BusinessException(FarmrandingResponseCode.PRICING_USAGE_LIMIT_EXCEEDED);
-        }
-        
-        user.incrementPricingSuggestionUsage();
-        userRepository.save(user);
-        
-        log.info("가격 제안 사용량 증가: userId={}, count={}", userId, user.getPricingSuggestionUsageCount());
-    }
-    
     @Override
     public void resetUsageCounts(Long userId) {
-        User user = findUserById(userId);
-        
-        user.resetUsageCounts();
-        userRepository.save(user);
+        // 누적 통계(users 컬럼)는 유지하고 한도 판정에 쓰는 기간 창 구간만 비움
+        findUserById(userId);
+        usageBucketRepository.deleteByUserId(userId);
+        quotaLedgerService.discardPending(userId);
         
         log.info("사용량 초기화 완료: userId={}", userId);
     }
@@ -126,6 +111,6 @@ public class UserServiceImpl implements UserService {
     
     private User findUserById(Long userId) {
         return userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(FarmrandingResponseCode.USER_NOT_FOUND));
+                .orElseThrow(() -> BusinessException.expected(FarmrandingResponseCode.USER_NOT_FOUND));
     }
 } 
\ No newline at end of file
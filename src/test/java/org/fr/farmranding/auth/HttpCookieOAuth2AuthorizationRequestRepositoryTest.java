@@ -0,0 +1,122 @@
+package org.fr.farmranding.auth;
+
+import jakarta.servlet.http.Cookie;
+import org.fr.farmranding.config.JwtProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HttpCookieOAuth2AuthorizationRequestRepositoryTest {
+
+    private static final String COOKIE_NAME = "oauth2_auth_request";
+    private static final String STATE = "state-1234";
+
+    private HttpCookieOAuth2AuthorizationRequestRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret("test-secret-key-for-oauth2-cookie-repository-0123456789");
+        repository = new HttpCookieOAuth2AuthorizationRequestRepository(jwtProperties);
+    }
+
+    @Test
+    void savedRequestRoundTripsThroughCookie() {
+        OAuth2AuthorizationRequest saved = authorizationRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        repository.saveAuthorizationRequest(saved, new MockHttpServletRequest(), response);
+
+        OAuth2AuthorizationRequest loaded = repository.loadAuthorizationRequest(callback(response.getCookie(COOKIE_NAME)));
+
+        assertThat(loaded).isNotNull();
+        assertThat(loaded.getAuthorizationUri()).isEqualTo(saved.getAuthorizationUri());
+        assertThat(loaded.getGrantType()).isEqualTo(saved.getGrantType());
+        assertThat(loaded.getResponseType()).isEqualTo(saved.getResponseType());
+        assertThat(loaded.getClientId()).isEqualTo(saved.getClientId());
+        assertThat(loaded.getRedirectUri()).isEqualTo(saved.getRedirectUri());
+        assertThat(loaded.getScopes()).isEqualTo(saved.getScopes());
+        assertThat(loaded.getState()).isEqualTo(saved.getState());
+        assertThat(loaded.getAdditionalParameters()).isEqualTo(saved.getAdditionalParameters());
+        assertThat(loaded.getAttributes()).isEqualTo(saved.getAttributes());
+        assertThat(loaded.getAuthorizationRequestUri()).isEqualTo(saved.getAuthorizationRequestUri());
+    }
+
+    @Test
+    void cookieIsHttpOnlyLaxAndSecureOnSecureRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setSecure(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        repository.saveAuthorizationRequest(authorizationRequest(), request, response);
+
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE))
+                .contains("HttpOnly")
+                .contains("Secure")
+                .contains("SameSite=Lax");
+    }
+
+    @Test
+    void mismatchedStateIsIgnored() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        repository.saveAuthorizationRequest(authorizationRequest(), new MockHttpServletRequest(), response);
+
+        MockHttpServletRequest callback = callback(response.getCookie(COOKIE_NAME));
+        callback.setParameter(OAuth2ParameterNames.STATE, "other-state");
+
+        assertThat(repository.loadAuthorizationRequest(callback)).isNull();
+    }
+
+    @Test
+    void tamperedCookieIsRejected() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        repository.saveAuthorizationRequest(authorizationRequest(), new MockHttpServletRequest(), response);
+
+        // 암호문 중간 한 글자 변조 (인증 태그 검증 실패)
+        char[] value = response.getCookie(COOKIE_NAME).getValue().toCharArray();
+        int middle = value.length / 2;
+        value[middle] = value[middle] == 'A' ? 'B' : 'A';
+        Cookie tampered = new Cookie(COOKIE_NAME, new String(value));
+
+        assertThat(repository.loadAuthorizationRequest(callback(tampered))).isNull();
+    }
+
+    @Test
+    void removeClearsCookie() {
+        MockHttpServletResponse saveResponse = new MockHttpServletResponse();
+        repository.saveAuthorizationRequest(authorizationRequest(), new MockHttpServletRequest(), saveResponse);
+
+        MockHttpServletResponse removeResponse = new MockHttpServletResponse();
+        OAuth2AuthorizationRequest removed = repository.removeAuthorizationRequest(
+                callback(saveResponse.getCookie(COOKIE_NAME)), removeResponse);
+
+        assertThat(removed).isNotNull();
+        assertThat(removeResponse.getHeader(HttpHeaders.SET_COOKIE)).contains("Max-Age=0");
+    }
+
+    private static OAuth2AuthorizationRequest authorizationRequest() {
+        return OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://kauth.kakao.com/oauth/authorize")
+                .clientId("kakao-client-id")
+                .redirectUri("https://farmranding.example.com/login/oauth2/code/kakao")
+                .scopes(Set.of("profile_nickname", "profile_image"))
+                .state(STATE)
+                .additionalParameters(Map.of("prompt", "login"))
+                .attributes(Map.of(OAuth2ParameterNames.REGISTRATION_ID, "kakao"))
+                .build();
+    }
+
+    private static MockHttpServletRequest callback(Cookie cookie) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setParameter(OAuth2ParameterNames.STATE, STATE);
+        request.setCookies(cookie);
+        return request;
+    }
+}
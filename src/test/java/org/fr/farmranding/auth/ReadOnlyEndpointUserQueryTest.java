@@ -0,0 +1,105 @@
+package org.fr.farmranding.auth;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.fr.farmranding.entity.user.User;
+import org.fr.farmranding.jwt.JwtService;
+import org.fr.farmranding.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 읽기 전용 API는 토큰 클레임의 principal만 사용하고 users 테이블을 조회하지 않아야 함
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+class ReadOnlyEndpointUserQueryTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long userId;
+
+    private String accessToken;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        String providerId = "read-only-test-" + UUID.randomUUID();
+        User user = userRepository.save(User.builder()
+                .email(providerId + "@example.com")
+                .name("read-only-test")
+                .providerId(providerId)
+                .build());
+        userId = user.getId();
+        accessToken = jwtService.generateAccessToken(UserPrincipal.from(user));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteById(userId);
+    }
+
+    @Test
+    void brandingListRunsNoUserQueries() throws Exception {
+        mockMvc.perform(get("/api/v1/branding")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        assertNoUserQueries();
+    }
+
+    @Test
+    void brandingPageRunsNoUserQueries() throws Exception {
+        mockMvc.perform(get("/api/v1/branding/page")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        assertNoUserQueries();
+    }
+
+    @Test
+    void priceQuoteListRunsNoUserQueries() throws Exception {
+        mockMvc.perform(get("/api/v1/price-quotes")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        assertNoUserQueries();
+    }
+
+    private void assertNoUserQueries() {
+        EntityStatistics userStatistics = statistics.getEntityStatistics(User.class.getName());
+        assertThat(userStatistics.getLoadCount()).isZero();
+        assertThat(userStatistics.getFetchCount()).isZero();
+        assertThat(Arrays.stream(statistics.getQueries()))
+                .noneMatch(query -> query.matches("(?is).*\\b(from|join)\\s+User\\b.*"));
+    }
+}
@@ -0,0 +1,76 @@
+package org.fr.farmranding.config;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.SocketPolicy;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 카카오 스텁 서버
+ * 토큰 발급/사용자 정보 응답에 지연과 장애를 주입해 HTTP 클라이언트의 제한 시간과 서킷 브레이커를 검증합니다.
+ */
+class KakaoStubServer implements AutoCloseable {
+
+    static final String TOKEN_PATH = "/oauth/token";
+    static final String USER_INFO_PATH = "/v2/user/me";
+
+    private final MockWebServer server = new MockWebServer();
+
+    KakaoStubServer() throws IOException {
+        server.start();
+    }
+
+    String url(String path) {
+        return server.url(path).toString();
+    }
+
+    int requestCount() {
+        return server.getRequestCount();
+    }
+
+    void respondToken() {
+        server.enqueue(json("""
+                {"access_token":"kakao-access-token","token_type":"bearer","expires_in":21599,
+                 "refresh_token":"kakao-refresh-token","scope":"profile_nickname"}
+                """));
+    }
+
+    void respondUserInfo() {
+        server.enqueue(json("""
+                {"id":1234567890,"kakao_account":{"email":"farmer@example.com","profile":{"nickname":"농부"}}}
+                """));
+    }
+
+    /**
+     * 응답 헤더를 delay만큼 늦게 전송
+     */
+    void respondUserInfoAfter(Duration delay) {
+        server.enqueue(json("{\"id\":1234567890}").setHeadersDelay(delay.toMillis(), TimeUnit.MILLISECONDS));
+    }
+
+    void failWith(int status) {
+        server.enqueue(new MockResponse().setResponseCode(status).setBody("{\"error\":\"server_error\"}")
+                .setHeader("Content-Type", "application/json"));
+    }
+
+    /**
+     * 요청을 받은 뒤 응답 없이 연결을 끊음
+     */
+    void disconnect() {
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST));
+    }
+
+    private static MockResponse json(String body) {
+        return new MockResponse()
+                .setHeader("Content-Type", "application/json;charset=UTF-8")
+                .setBody(body);
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.shutdown();
+    }
+}
@@ -0,0 +1,189 @@
+package org.fr.farmranding.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.fr.farmranding.common.http.CircuitBreakerInterceptor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AccessTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AuthorizationCodeGrantRequest;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.ClientAuthenticationMethod;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AccessTokenResponse;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationExchange;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationResponse;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OAuth2ClientConfigTest {
+
+    private static final Duration READ_TIMEOUT = Duration.ofMillis(300);
+    private static final int FAILURE_THRESHOLD = 3;
+    private static final Duration OPEN_DURATION = Duration.ofMillis(500);
+
+    private KakaoStubServer kakao;
+    private MeterRegistry meterRegistry;
+    private OAuth2ClientConfig config;
+    private JdkClientHttpRequestFactory requestFactory;
+    private CircuitBreakerInterceptor circuitBreaker;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        kakao = new KakaoStubServer();
+        meterRegistry = new SimpleMeterRegistry();
+
+        OAuth2ClientProperties properties = new OAuth2ClientProperties();
+        properties.setReadTimeout(READ_TIMEOUT);
+        properties.getCircuitBreaker().setFailureThreshold(FAILURE_THRESHOLD);
+        properties.getCircuitBreaker().setOpenDuration(OPEN_DURATION);
+
+        config = new OAuth2ClientConfig(properties);
+        requestFactory = config.oauth2ClientRequestFactory();
+        circuitBreaker = config.oauth2ClientCircuitBreaker(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        kakao.close();
+    }
+
+    @Test
+    void userInfoCallSucceedsWithinReadTimeout() {
+        kakao.respondUserInfoAfter(READ_TIMEOUT.dividedBy(3));
+
+        Map<?, ?> userInfo = userInfoRestTemplate().getForObject(kakao.url(KakaoStubServer.USER_INFO_PATH), Map.class);
+
+        assertThat(kakaoId(userInfo)).isEqualTo(1234567890L);
+        assertThat(timerCount("SUCCESS")).isEqualTo(1);
+    }
+
+    @Test
+    void slowUserInfoResponseHitsReadTimeout() {
+        kakao.respondUserInfoAfter(READ_TIMEOUT.multipliedBy(5));
+        RestTemplate restTemplate = userInfoRestTemplate();
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> restTemplate.getForObject(kakao.url(KakaoStubServer.USER_INFO_PATH), Map.class))
+                .isInstanceOf(ResourceAccessException.class)
+                .hasRootCauseInstanceOf(HttpTimeoutException.class);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(READ_TIMEOUT.multipliedBy(4));
+        assertThat(timerCount("IO_ERROR")).isEqualTo(1);
+    }
+
+    @Test
+    void consecutiveFailuresOpenCircuitAndRejectWithoutCallingKakao() {
+        RestTemplate restTemplate = userInfoRestTemplate();
+        String url = kakao.url(KakaoStubServer.USER_INFO_PATH);
+        kakao.failWith(500);
+        kakao.failWith(503);
+        kakao.disconnect();
+
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThatThrownBy(() -> restTemplate.getForObject(url, Map.class));
+        }
+        assertThat(circuitOpen()).isEqualTo(1);
+
+        // JDK HttpClient는 연결이 끊긴 GET을 한 번 재시도하므로 호출 수는 차단 전후로 비교
+        int requestsBeforeRejection = kakao.requestCount();
+        kakao.respondUserInfo();
+        assertThatThrownBy(() -> restTemplate.getForObject(url, Map.class))
+                .isInstanceOf(ResourceAccessException.class)
+                .hasMessageContaining("circuit is open");
+
+        assertThat(kakao.requestCount()).isEqualTo(requestsBeforeRejection);
+        assertThat(timerCount("REJECTED")).isEqualTo(1);
+    }
+
+    @Test
+    void successfulTrialAfterOpenDurationClosesCircuit() throws InterruptedException {
+        RestTemplate restTemplate = userInfoRestTemplate();
+        String url = kakao.url(KakaoStubServer.USER_INFO_PATH);
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            kakao.failWith(500);
+            assertThatThrownBy(() -> restTemplate.getForObject(url, Map.class));
+        }
+        assertThat(circuitOpen()).isEqualTo(1);
+
+        Thread.sleep(OPEN_DURATION.plusMillis(100).toMillis());
+        kakao.respondUserInfo();
+
+        assertThat(kakaoId(restTemplate.getForObject(url, Map.class))).isEqualTo(1234567890L);
+        assertThat(circuitOpen()).isZero();
+    }
+
+    @Test
+    void tokenExchangeSharesCircuitBreakerWithUserInfo() {
+        OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> tokenClient =
+                config.oauth2AccessTokenResponseClient(requestFactory, circuitBreaker);
+        kakao.respondToken();
+
+        OAuth2AccessTokenResponse response = tokenClient.getTokenResponse(authorizationCodeGrantRequest());
+
+        assertThat(response.getAccessToken().getTokenValue()).isEqualTo("kakao-access-token");
+
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            kakao.failWith(500);
+            assertThatThrownBy(() -> tokenClient.getTokenResponse(authorizationCodeGrantRequest()));
+        }
+        assertThatThrownBy(() -> userInfoRestTemplate().getForObject(kakao.url(KakaoStubServer.USER_INFO_PATH), Map.class))
+                .hasMessageContaining("circuit is open");
+        assertThat(kakao.requestCount()).isEqualTo(1 + FAILURE_THRESHOLD);
+    }
+
+    private RestTemplate userInfoRestTemplate() {
+        return config.oauth2UserInfoRestTemplate(requestFactory, circuitBreaker);
+    }
+
+    private OAuth2AuthorizationCodeGrantRequest authorizationCodeGrantRequest() {
+        ClientRegistration registration = ClientRegistration.withRegistrationId("kakao")
+                .clientId("client-id")
+                .clientSecret("client-secret")
+                .clientAuthenticationMethod(ClientAuthenticationMethod.CLIENT_SECRET_POST)
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .redirectUri("http://localhost:8080/login/oauth2/code/kakao")
+                .authorizationUri(kakao.url("/oauth/authorize"))
+                .tokenUri(kakao.url(KakaoStubServer.TOKEN_PATH))
+                .userInfoUri(kakao.url(KakaoStubServer.USER_INFO_PATH))
+                .userNameAttributeName("id")
+                .build();
+        OAuth2AuthorizationRequest authorizationRequest = OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri(registration.getProviderDetails().getAuthorizationUri())
+                .clientId(registration.getClientId())
+                .redirectUri(registration.getRedirectUri())
+                .state("state")
+                .build();
+        OAuth2AuthorizationResponse authorizationResponse = OAuth2AuthorizationResponse.success("code")
+                .redirectUri(registration.getRedirectUri())
+                .state("state")
+                .build();
+        return new OAuth2AuthorizationCodeGrantRequest(registration,
+                new OAuth2AuthorizationExchange(authorizationRequest, authorizationResponse));
+    }
+
+    private static long kakaoId(Map<?, ?> userInfo) {
+        return ((Number) userInfo.get("id")).longValue();
+    }
+
+    private long timerCount(String outcome) {
+        return meterRegistry.find("farmranding.http.client.requests").tag("outcome", outcome).timers().stream()
+                .mapToLong(timer -> timer.count())
+                .sum();
+    }
+
+    private double circuitOpen() {
+        return meterRegistry.get("farmranding.http.client.circuit.open").gauge().value();
+    }
+}
@@ -0,0 +1,124 @@
+package org.fr.farmranding.generation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.fr.farmranding.config.GenerationProperties;
+import org.fr.farmranding.dto.branding.BrandingProjectCreateRequest;
+import org.fr.farmranding.entity.branding.Grade;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GenerationResultCacheTest {
+
+    private static final GeneratedBranding RESULT =
+            new GeneratedBranding("햇살토마토", "홍보 문구", "브랜드 스토리", "컨셉", null);
+
+    private GenerationResultCache cache;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        GenerationProperties properties = new GenerationProperties();
+        properties.getCache().setPersistent(false);
+        cache = new GenerationResultCache(null, new ObjectMapper(), properties, new SimpleMeterRegistry());
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentRequestsForSameInputShareOneGeneration() throws Exception {
+        AtomicInteger generations = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<GeneratedBranding> leader = CompletableFuture.supplyAsync(
+                () -> cache.getOrGenerate(request("토마토"), () -> {
+                    generations.incrementAndGet();
+                    leaderStarted.countDown();
+                    await(release);
+                    return RESULT;
+                }), executor);
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 키워드 순서가 달라도 같은 입력
+        CompletableFuture<GeneratedBranding> follower = CompletableFuture.supplyAsync(
+                () -> cache.getOrGenerate(request("토마토", true), () -> {
+                    generations.incrementAndGet();
+                    return RESULT;
+                }), executor);
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(RESULT);
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo(RESULT);
+        assertThat(generations).hasValue(1);
+        assertThat(cache.getIfPresent(request("토마토"))).isEqualTo(RESULT);
+        assertThat(cache.contains(request("토마토"))).isTrue();
+    }
+
+    @Test
+    void leaderFailureIsSharedWithWaitersButNotCached() throws Exception {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<GeneratedBranding> leader = CompletableFuture.supplyAsync(
+                () -> cache.getOrGenerate(request("딸기"), () -> {
+                    leaderStarted.countDown();
+                    await(release);
+                    throw new IllegalStateException("모델 호출 실패");
+                }), executor);
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<GeneratedBranding> follower = CompletableFuture.supplyAsync(
+                () -> cache.getOrGenerate(request("딸기"), () -> RESULT), executor);
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("모델 호출 실패");
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("모델 호출 실패");
+
+        // 실패는 캐시하지 않으므로 다음 요청은 다시 생성
+        assertThat(cache.getIfPresent(request("딸기"))).isNull();
+        assertThat(cache.getOrGenerate(request("딸기"), () -> RESULT)).isEqualTo(RESULT);
+    }
+
+    @Test
+    void getIfPresentNeverGenerates() {
+        assertThat(cache.getIfPresent(request("감자"))).isNull();
+        assertThat(cache.contains(request("감자"))).isFalse();
+    }
+
+    private static BrandingProjectCreateRequest request(String cropName) {
+        return request(cropName, false);
+    }
+
+    private static BrandingProjectCreateRequest request(String cropName, boolean reversed) {
+        List<String> keywords = reversed ? List.of("신선한", "프리미엄") : List.of("프리미엄", "신선한");
+        return new BrandingProjectCreateRequest("제목", cropName, null, "유기농 재배", Grade.SPECIAL, true,
+                keywords, List.of("달콤한"), List.of("햇살"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.fr.farmranding.search;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * farmranding.search.engine=in-memory 구현의 검색 의미가 MySQL FULLTEXT 구현과 같아야 함
+ */
+class InMemoryNgramSearchIndexTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long OTHER_USER_ID = 2L;
+
+    private final InMemoryNgramSearchIndex index = new InMemoryNgramSearchIndex();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void ranksByOccurrencesThenShorterDocumentThenNewer() {
+        index.index(project(1L, USER_ID, "햇살 토마토", "토마토"));
+        index.index(project(2L, USER_ID, "토마토 농장", "방울토마토"));
+        index.index(project(3L, USER_ID, "유기농 토마토 브랜드", "대추토마토"));
+        index.index(project(4L, USER_ID, "토마토", "유기농 채소"));
+        index.index(project(5L, USER_ID, "딸기 농장", "설향"));
+
+        // 1: 2회(짧음), 2: 2회, 3: 2회(김), 4: 1회
+        assertThat(index.search(SearchTarget.BRANDING_PROJECT, USER_ID, "토마토", 10))
+                .containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    void searchIsScopedToUserAndTarget() {
+        index.index(project(1L, USER_ID, "토마토", "토마토"));
+        index.index(project(2L, OTHER_USER_ID, "토마토", "토마토"));
+        index.index(new SearchDocument(SearchTarget.PRICE_QUOTE, 3L, USER_ID, List.of("토마토")));
+
+        assertThat(index.search(SearchTarget.BRANDING_PROJECT, USER_ID, "토마토", 10)).containsExactly(1L);
+        assertThat(index.search(SearchTarget.PRICE_QUOTE, USER_ID, "토마토", 10)).containsExactly(3L);
+    }
+
+    @Test
+    void limitCutsRankedResults() {
+        for (long id = 1; id <= 5; id++) {
+            index.index(project(id, USER_ID, "사과 " + id, "사과"));
+        }
+
+        assertThat(index.search(SearchTarget.BRANDING_PROJECT, USER_ID, "사과", 2)).containsExactly(5L, 4L);
+    }
+
+    @Test
+    void singleCharacterQueryMatchesLikeSubstringSearch() {
+        index.index(project(1L, USER_ID, "나주 배", "배"));
+        index.index(project(2L, USER_ID, "배추 김치", "배추"));
+        index.index(project(3L, USER_ID, "감자", "감자"));
+
+        // MySQL 구현의 LIKE '%배%'와 같은 결과
+        assertThat(index.search(SearchTarget.BRANDING_PROJECT, USER_ID, "배", 10)).containsExactly(1L, 2L);
+        assertThat(index.search(SearchTarget.BRANDING_PROJECT, USER_ID, " ", 10)).isEmpty();
+    }
+
+    @Test
+    void multiCharacterQueryRequiresContiguousMatch() {
+        index.index(project(1L, USER_ID, "토종 마늘", "마늘"));
+
+        // 두 글자 n-gram은 모두 있지만 연속된 문자열이 아니면 일치하지 않음
+        assertThat(index.search(SearchTarget.BRANDING_PROJECT, USER_ID, "토마", 10)).isEmpty();
+        assertThat(index.search(SearchTarget.BRANDING_PROJECT, USER_ID, "토종 마", 10)).containsExactly(1L);
+    }
+
+    @Test
+    void updatesAreVisibleOnlyAfterCommit() {
+        index.index(project(1L, USER_ID, "토마토", "토마토"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        index.index(project(1L, USER_ID, "딸기", "딸기"));
+        index.index(project(2L, USER_ID, "딸기 농장", "딸기"));
+
+        // 커밋 전에는 이전 색인 그대로
+        assertThat(index.search(SearchTarget.BRANDING_PROJECT, USER_ID, "토마토", 10)).containsExactly(1L);
+        assertThat(index.search(SearchTarget.BRANDING_PROJECT, USER_ID, "딸기", 10)).isEmpty();
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(index.search(SearchTarget.BRANDING_PROJECT, USER_ID, "토마토", 10)).isEmpty();
+        assertThat(index.search(SearchTarget.BRANDING_PROJECT, USER_ID, "딸기", 10)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void removeDropsDocumentAfterCommit() {
+        index.index(project(1L, USER_ID, "토마토", "토마토"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        index.remove(SearchTarget.BRANDING_PROJECT, 1L);
+        assertThat(index.search(SearchTarget.BRANDING_PROJECT, USER_ID, "토마토", 10)).containsExactly(1L);
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(index.search(SearchTarget.BRANDING_PROJECT, USER_ID, "토마토", 10)).isEmpty();
+    }
+
+    private static SearchDocument project(Long id, Long userId, String title, String cropName) {
+        return new SearchDocument(SearchTarget.BRANDING_PROJECT, id, userId, List.of(title, cropName));
+    }
+}
@@ -0,0 +1,81 @@
+package org.fr.farmranding.service;
+
+import org.fr.farmranding.auth.UserPrincipal;
+import org.fr.farmranding.common.code.FarmrandingResponseCode;
+import org.fr.farmranding.common.exception.BusinessException;
+import org.fr.farmranding.dto.response.TokenResponse;
+import org.fr.farmranding.entity.user.User;
+import org.fr.farmranding.jwt.JwtService;
+import org.fr.farmranding.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class RefreshTokenServiceTest {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+
+    private String refreshToken;
+
+    @BeforeEach
+    void setUp() {
+        String providerId = "refresh-test-" + UUID.randomUUID();
+        User user = userRepository.save(User.builder()
+                .email(providerId + "@example.com")
+                .name("refresh-test")
+                .providerId(providerId)
+                .build());
+        userId = user.getId();
+        refreshToken = jwtService.generateRefreshToken(UserPrincipal.from(user));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteById(userId);
+    }
+
+    @Test
+    void refreshRotatesTokenWithinSameFamily() {
+        TokenResponse rotated = refreshTokenService.refresh(refreshToken);
+
+        assertThat(rotated.refreshToken()).isNotEqualTo(refreshToken);
+        assertThat(jwtService.parseRefreshToken(rotated.refreshToken()).familyId())
+                .isEqualTo(jwtService.parseRefreshToken(refreshToken).familyId());
+
+        // 회전된 토큰은 다시 한 번 사용할 수 있음
+        assertThat(refreshTokenService.refresh(rotated.refreshToken()).accessToken()).isNotBlank();
+    }
+
+    @Test
+    void reusedTokenRevokesWholeFamily() {
+        TokenResponse rotated = refreshTokenService.refresh(refreshToken);
+
+        assertThatThrownBy(() -> refreshTokenService.refresh(refreshToken))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(FarmrandingResponseCode.REFRESH_TOKEN_REUSED);
+
+        // 재사용이 감지되면 아직 사용하지 않은 최신 토큰도 거부
+        assertThatThrownBy(() -> refreshTokenService.refresh(rotated.refreshToken()))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(FarmrandingResponseCode.REFRESH_TOKEN_REVOKED);
+    }
+}
@@ -0,0 +1,104 @@
+package org.fr.farmranding.service;
+
+import org.fr.farmranding.auth.UserPrincipal;
+import org.fr.farmranding.common.exception.BusinessException;
+import org.fr.farmranding.entity.user.MembershipType;
+import org.fr.farmranding.entity.user.UsageType;
+import org.fr.farmranding.entity.user.User;
+import org.fr.farmranding.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class UsageQuotaConcurrencyTest {
+
+    private static final int THREADS = 32;
+
+    @Autowired
+    private QuotaLedgerService quotaLedgerService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MembershipPlanRegistry membershipPlanRegistry;
+
+    private Long userId;
+
+    private UserPrincipal principal;
+
+    @BeforeEach
+    void setUp() {
+        String providerId = "quota-test-" + UUID.randomUUID();
+        User user = userRepository.save(User.builder()
+                .email(providerId + "@example.com")
+                .name("quota-test")
+                .providerId(providerId)
+                .build());
+        userId = user.getId();
+        principal = UserPrincipal.from(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteById(userId);
+    }
+
+    @Test
+    void aiBrandingUsageNeverExceedsFreeLimitUnderConcurrency() throws InterruptedException {
+        int allowed = runConcurrently(() -> quotaLedgerService.consume(principal, UsageType.AI_BRANDING));
+
+        assertThat(allowed).isEqualTo(membershipPlanRegistry.getLimits(MembershipType.FREE).aiBrandingLimit());
+        assertThat(userRepository.findById(userId).orElseThrow().getAiBrandingUsageCount())
+                .isEqualTo(membershipPlanRegistry.getLimits(MembershipType.FREE).aiBrandingLimit());
+    }
+
+    @Test
+    void pricingSuggestionUsageNeverExceedsFreeLimitUnderConcurrency() throws InterruptedException {
+        int allowed = runConcurrently(() -> quotaLedgerService.consume(principal, UsageType.PRICING_SUGGESTION));
+
+        assertThat(allowed).isEqualTo(membershipPlanRegistry.getLimits(MembershipType.FREE).pricingSuggestionLimit());
+        assertThat(userRepository.findById(userId).orElseThrow().getPricingSuggestionUsageCount())
+                .isEqualTo(membershipPlanRegistry.getLimits(MembershipType.FREE).pricingSuggestionLimit());
+    }
+
+    private int runConcurrently(Runnable consume) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        AtomicInteger allowed = new AtomicInteger();
+
+        for (int i = 0; i < THREADS; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    consume.run();
+                    allowed.incrementAndGet();
+                } catch (BusinessException ignored) {
+                    // 한도 초과
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        return allowed.get();
+    }
+}